@@ -1,7 +1,10 @@
 package com.service.inventory;
 
+import com.service.inventory.config.NotFoundProperties;
+import com.service.inventory.config.StockProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
@@ -10,6 +13,7 @@ import org.springframework.transaction.annotation.EnableTransactionManagement;
 @EnableJpaAuditing
 @EnableCaching
 @EnableTransactionManagement
+@EnableConfigurationProperties({NotFoundProperties.class, StockProperties.class})
 public class InventoryApplication {
 
 	public static void main(String[] args) {
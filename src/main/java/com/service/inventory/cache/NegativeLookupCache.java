@@ -0,0 +1,74 @@
+package com.service.inventory.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.service.inventory.config.NotFoundProperties;
+import com.service.inventory.event.WarehouseChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Remembers warehouse IDs and codes that recently resolved to nothing, so repeated misses skip the database.
+// Callers take generation() before their lookup, so a miss that raced a write is not remembered past it.
+@Component
+public class NegativeLookupCache {
+
+    private final boolean enabled;
+    private final Cache<UUID, Boolean> missingIds;
+    private final Cache<String, Boolean> missingCodes;
+    private final AtomicLong generation = new AtomicLong();
+
+    public NegativeLookupCache(NotFoundProperties properties) {
+        this.enabled = properties.isNegativeCacheEnabled();
+        this.missingIds = Caffeine.newBuilder()
+                .maximumSize(properties.getNegativeCacheSize())
+                .expireAfterWrite(properties.getNegativeCacheTtl())
+                .build();
+        this.missingCodes = Caffeine.newBuilder()
+                .maximumSize(properties.getNegativeCacheSize())
+                .expireAfterWrite(properties.getNegativeCacheTtl())
+                .build();
+    }
+
+    public boolean isMissingId(UUID id) {
+        return enabled && missingIds.getIfPresent(id) != null;
+    }
+
+    public boolean isMissingCode(String code) {
+        return enabled && missingCodes.getIfPresent(code) != null;
+    }
+
+    public long generation() {
+        return generation.get();
+    }
+
+    // The entry is put before the generation is re-checked, so a write invalidating after the check removes it too.
+    public void rememberMissingId(UUID id, long lookupGeneration) {
+        if (enabled) {
+            missingIds.put(id, Boolean.TRUE);
+            if (generation.get() != lookupGeneration) {
+                missingIds.invalidate(id);
+            }
+        }
+    }
+
+    public void rememberMissingCode(String code, long lookupGeneration) {
+        if (enabled) {
+            missingCodes.put(code, Boolean.TRUE);
+            if (generation.get() != lookupGeneration) {
+                missingCodes.invalidate(code);
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWarehouseChanged(WarehouseChangedEvent event) {
+        generation.incrementAndGet();
+        missingIds.invalidate(event.id());
+        if (!event.isDeleted()) {
+            missingCodes.invalidate(event.warehouse().getCode());
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.service.inventory.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.service.inventory.config.ResponseCacheProperties;
+import com.service.inventory.dto.WarehouseDto;
+import com.service.inventory.event.WarehouseChangedEvent;
+import com.service.inventory.profiling.SerializationEvent;
+import com.service.inventory.service.WarehouseService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps the JSON bodies of the unpaged warehouse list endpoints already encoded (and gzip-compressed when large
+ * enough). Writes bump a generation counter instead of evicting, so a stale body keeps being served while a
+ * single background refresh rebuilds it.
+ */
+@Slf4j
+public class WarehouseResponseCache implements DisposableBean {
+
+    public enum Endpoint {
+        ACTIVE, BY_COUNTRY, BY_STATE, BY_CITY
+    }
+
+    public record Key(Endpoint endpoint, String value) {
+    }
+
+    // gzipBody is null when the body is below the compression threshold or gzip is disabled.
+    public record EncodedResponse(byte[] body, byte[] gzipBody, long generation, long loadedAtNanos) {
+    }
+
+    private final WarehouseService warehouseService;
+    private final ObjectMapper objectMapper;
+    private final ResponseCacheProperties properties;
+    private final Cache<Key, EncodedResponse> responses;
+    private final AtomicLong generation = new AtomicLong();
+    private final Set<Key> refreshing = ConcurrentHashMap.newKeySet();
+    private final ExecutorService refresher;
+
+    public WarehouseResponseCache(WarehouseService warehouseService, ObjectMapper objectMapper,
+                                  ResponseCacheProperties properties) {
+        this.warehouseService = warehouseService;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .build();
+        this.refresher = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "warehouse-response-cache");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public EncodedResponse get(Key key) {
+        EncodedResponse cached = responses.get(key, this::load);
+        if (cached.generation() != generation.get()
+                || System.nanoTime() - cached.loadedAtNanos() > properties.getRefreshAfter().toNanos()) {
+            refreshInBackground(key);
+        }
+        return cached;
+    }
+
+    // Drops every entry so the next request loads synchronously, e.g. after writes that bypassed the service.
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        responses.invalidateAll();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWarehouseChanged(WarehouseChangedEvent event) {
+        generation.incrementAndGet();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        refresher.shutdownNow();
+        refresher.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private void refreshInBackground(Key key) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        refresher.execute(() -> {
+            try {
+                responses.put(key, load(key));
+            } catch (RuntimeException ex) {
+                log.warn("Refreshing cached response for {} failed, serving stale body: {}", key, ex.getMessage());
+            } finally {
+                refreshing.remove(key);
+            }
+        });
+    }
+
+    // The generation is read before querying, so a write that commits mid-load leaves the entry stale.
+    private EncodedResponse load(Key key) {
+        long loadedGeneration = generation.get();
+        List<WarehouseDto> warehouses = switch (key.endpoint()) {
+            case ACTIVE -> warehouseService.getActiveWarehouses();
+            case BY_COUNTRY -> warehouseService.getWarehousesByCountry(key.value());
+            case BY_STATE -> warehouseService.getWarehousesByState(key.value());
+            case BY_CITY -> warehouseService.getWarehousesByCity(key.value());
+        };
+
+        byte[] body;
+        SerializationEvent event = new SerializationEvent();
+        event.begin();
+        try {
+            body = objectMapper.writeValueAsBytes(warehouses);
+        } catch (JsonProcessingException ex) {
+            event.finish(() -> "WarehouseResponseCache." + key.endpoint(), warehouses, true);
+            throw new IllegalStateException("Cannot encode warehouses for " + key, ex);
+        }
+        event.finish(() -> "WarehouseResponseCache." + key.endpoint(), warehouses, false);
+        byte[] gzipBody = properties.isGzip() && body.length >= properties.getGzipMinSize() ? gzip(body) : null;
+        log.debug("Encoded {} warehouses for {} ({} bytes)", warehouses.size(), key, body.length);
+        return new EncodedResponse(body, gzipBody, loadedGeneration, System.nanoTime());
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 4 + 32);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(body);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return compressed.toByteArray();
+    }
+}
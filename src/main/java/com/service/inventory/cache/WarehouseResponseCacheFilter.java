@@ -0,0 +1,119 @@
+package com.service.inventory.cache;
+
+import com.service.inventory.cache.WarehouseResponseCache.EncodedResponse;
+import com.service.inventory.cache.WarehouseResponseCache.Endpoint;
+import com.service.inventory.cache.WarehouseResponseCache.Key;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Answers GET /active, /by-country, /by-state and /by-city straight from {@link WarehouseResponseCache}, writing
+ * the cached bytes to the servlet stream without touching the service, mapper or message converters. Anything
+ * else, and any request the cache cannot answer, continues down the chain to {@code WarehouseController}.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class WarehouseResponseCacheFilter extends OncePerRequestFilter {
+
+    private static final Pattern CACHED_PATH =
+            Pattern.compile("/api/v1/warehouses/(?:(active)|(by-country|by-state|by-city)/([^/;]+))");
+
+    private final WarehouseResponseCache responseCache;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod()) || !CACHED_PATH.matcher(path(request)).matches();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!acceptsJson(request)) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        EncodedResponse cached;
+        try {
+            cached = responseCache.get(key(path(request)));
+        } catch (RuntimeException ex) {
+            log.warn("Response cache could not load {}, falling back to controller: {}",
+                    request.getRequestURI(), ex.getMessage());
+            chain.doFilter(request, response);
+            return;
+        }
+
+        boolean gzip = cached.gzipBody() != null && acceptsGzip(request);
+        byte[] body = gzip ? cached.gzipBody() : cached.body();
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private static Key key(String path) {
+        Matcher matcher = CACHED_PATH.matcher(path);
+        if (!matcher.matches()) {
+            throw new IllegalStateException("Not a cached path: " + path);
+        }
+        if (matcher.group(1) != null) {
+            return new Key(Endpoint.ACTIVE, "");
+        }
+        String value = UriUtils.decode(matcher.group(3), StandardCharsets.UTF_8);
+        return switch (matcher.group(2)) {
+            case "by-country" -> new Key(Endpoint.BY_COUNTRY, value);
+            case "by-state" -> new Key(Endpoint.BY_STATE, value);
+            default -> new Key(Endpoint.BY_CITY, value);
+        };
+    }
+
+    private static boolean acceptsJson(HttpServletRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null) {
+            return true;
+        }
+        try {
+            return MediaType.parseMediaTypes(accept).stream()
+                    .anyMatch(mediaType -> mediaType.isCompatibleWith(MediaType.APPLICATION_JSON));
+        } catch (InvalidMediaTypeException ex) {
+            return false;
+        }
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+}
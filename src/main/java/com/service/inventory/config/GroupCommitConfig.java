@@ -0,0 +1,40 @@
+package com.service.inventory.config;
+
+import com.service.inventory.groupcommit.WarehouseGroupCommitter;
+import com.service.inventory.impl.GroupCommitWarehouseService;
+import com.service.inventory.impl.WarehouseServiceImpl;
+import com.service.inventory.mapper.WarehouseMapper;
+import com.service.inventory.repository.WarehouseRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+// Group commits write through the primary WarehouseRepository, so they are only available without sharding.
+// When the snapshot is enabled, SnapshotWarehouseService wraps this service instead of WarehouseServiceImpl.
+@Configuration
+@ConditionalOnExpression("${inventory.group-commit.enabled:false} and !${inventory.sharding.enabled:false}")
+@EnableConfigurationProperties(GroupCommitProperties.class)
+public class GroupCommitConfig {
+
+    @Bean
+    public WarehouseGroupCommitter warehouseGroupCommitter(WarehouseRepository warehouseRepository,
+                                                           WarehouseMapper warehouseMapper,
+                                                           ApplicationEventPublisher eventPublisher,
+                                                           EntityManager entityManager,
+                                                           PlatformTransactionManager transactionManager,
+                                                           WarehouseServiceImpl warehouseServiceImpl,
+                                                           GroupCommitProperties properties) {
+        return new WarehouseGroupCommitter(warehouseRepository, warehouseMapper, eventPublisher, entityManager,
+                transactionManager, warehouseServiceImpl, properties);
+    }
+
+    @Bean
+    public GroupCommitWarehouseService groupCommitWarehouseService(WarehouseServiceImpl warehouseServiceImpl,
+                                                                   WarehouseGroupCommitter warehouseGroupCommitter) {
+        return new GroupCommitWarehouseService(warehouseServiceImpl, warehouseGroupCommitter);
+    }
+}
@@ -0,0 +1,26 @@
+package com.service.inventory.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "inventory.group-commit")
+public class GroupCommitProperties {
+
+    private boolean enabled;
+
+    // A group is committed once it holds this many writes...
+    private int maxBatchSize = 64;
+
+    // ...or once its first write has waited this long.
+    private Duration maxWait = Duration.ofMillis(2);
+
+    // When the queue is full, callers fall back to committing on their own.
+    private int queueCapacity = 10_000;
+
+    // How long a caller waits for its group. A write still queued by then commits on its own; one already being
+    // committed fails with an unknown outcome.
+    private Duration submitTimeout = Duration.ofSeconds(30);
+}
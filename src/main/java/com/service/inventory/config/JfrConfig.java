@@ -0,0 +1,35 @@
+package com.service.inventory.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.service.inventory.profiling.JfrEventAspect;
+import com.service.inventory.profiling.JfrRecordingEndpoint;
+import com.service.inventory.profiling.ProfilingJackson2HttpMessageConverter;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Opt-in: the aspect proxies every service, repository and mapper call. The endpoint is only registered once "jfr"
+// is also added to management.endpoints.web.exposure.include.
+@Configuration
+@ConditionalOnProperty(prefix = "inventory.jfr", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(JfrProperties.class)
+public class JfrConfig {
+
+    @Bean
+    public JfrEventAspect jfrEventAspect() {
+        return new JfrEventAspect();
+    }
+
+    @Bean
+    public ProfilingJackson2HttpMessageConverter profilingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new ProfilingJackson2HttpMessageConverter(objectMapper);
+    }
+
+    @Bean
+    @ConditionalOnAvailableEndpoint
+    public JfrRecordingEndpoint jfrRecordingEndpoint(JfrProperties properties) {
+        return new JfrRecordingEndpoint(properties);
+    }
+}
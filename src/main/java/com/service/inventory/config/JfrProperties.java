@@ -0,0 +1,30 @@
+package com.service.inventory.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "inventory.jfr")
+public class JfrProperties {
+
+    private boolean enabled;
+
+    // Built-in JFR configuration used when a start request names none: "default" (~1% overhead) or "profile".
+    private String settings = "default";
+
+    private Duration maxAge = Duration.ofMinutes(30);
+
+    private DataSize maxSize = DataSize.ofMegabytes(256);
+
+    // Hot-path events shorter than this are dropped by the recording, like the thresholds of the JDK's own I/O and
+    // lock events; at zero every repository and mapper call is recorded.
+    private Duration eventThreshold = Duration.ofMillis(5);
+
+    private int maxRecordings = 2;
+
+    // Stopped recordings kept for download; older ones are closed and their chunks released.
+    private int maxStoppedRecordings = 4;
+}
@@ -0,0 +1,20 @@
+package com.service.inventory.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "inventory.not-found")
+public class NotFoundProperties {
+
+    private boolean negativeCacheEnabled = true;
+
+    private long negativeCacheSize = 10_000;
+
+    private Duration negativeCacheTtl = Duration.ofSeconds(5);
+
+    // Log one in every N not-found responses.
+    private int logSampleRate = 100;
+}
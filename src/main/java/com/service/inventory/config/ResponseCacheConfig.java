@@ -0,0 +1,29 @@
+package com.service.inventory.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.service.inventory.cache.WarehouseResponseCache;
+import com.service.inventory.cache.WarehouseResponseCacheFilter;
+import com.service.inventory.service.WarehouseService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Cached lists may lag a write by one request, so the cache is opt-in.
+@Configuration
+@ConditionalOnProperty(prefix = "inventory.response-cache", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ResponseCacheProperties.class)
+public class ResponseCacheConfig {
+
+    @Bean
+    public WarehouseResponseCache warehouseResponseCache(WarehouseService warehouseService,
+                                                         ObjectMapper objectMapper,
+                                                         ResponseCacheProperties properties) {
+        return new WarehouseResponseCache(warehouseService, objectMapper, properties);
+    }
+
+    @Bean
+    public WarehouseResponseCacheFilter warehouseResponseCacheFilter(WarehouseResponseCache warehouseResponseCache) {
+        return new WarehouseResponseCacheFilter(warehouseResponseCache);
+    }
+}
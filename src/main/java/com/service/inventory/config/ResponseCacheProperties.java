@@ -0,0 +1,23 @@
+package com.service.inventory.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "inventory.response-cache")
+public class ResponseCacheProperties {
+
+    private boolean enabled;
+
+    // Entries older than this are still served, but rebuilt in the background.
+    private Duration refreshAfter = Duration.ofSeconds(30);
+
+    private long maximumSize = 1000;
+
+    private boolean gzip = true;
+
+    // Bodies smaller than this are not worth compressing.
+    private int gzipMinSize = 1024;
+}
@@ -1,16 +1,41 @@
 package com.service.inventory.config;
 
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
 
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
+    // Granted through spring.security.user.roles (or any other UserDetailsService).
+    public static final String JFR_ROLE = "OPERATOR";
+
+    // JFR recordings include environment variables and system properties, so the endpoint needs an authenticated
+    // operator even though the rest of the API is open.
+    @Bean
+    @Order(1)
+    public SecurityFilterChain jfrEndpointFilterChain(HttpSecurity http) throws Exception {
+        http
+                .securityMatcher(EndpointRequest.to("jfr"))
+                .authorizeHttpRequests(auth -> auth
+                        .anyRequest().hasRole(JFR_ROLE)
+                )
+                .csrf(AbstractHttpConfigurer::disable)
+                .httpBasic(Customizer.withDefaults())
+                .formLogin(AbstractHttpConfigurer::disable)
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS));
+
+        return http.build();
+    }
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
@@ -0,0 +1,80 @@
+package com.service.inventory.config;
+
+import com.service.inventory.entity.Warehouse;
+import com.service.inventory.repository.WarehouseRepository;
+import com.service.inventory.sharding.WarehouseShard;
+import com.service.inventory.sharding.WarehouseShards;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.orm.jpa.EntityManagerFactoryBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+@ConditionalOnProperty(prefix = "inventory.sharding", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ShardingProperties.class)
+@Slf4j
+public class ShardingConfig {
+
+    @Bean
+    public WarehouseShards warehouseShards(ShardingProperties properties,
+                                           EntityManagerFactoryBuilder entityManagerFactoryBuilder) {
+        List<WarehouseShard> shards = new ArrayList<>();
+        for (int index = 0; index < properties.getShards().size(); index++) {
+            shards.add(createShard(index, properties.getShards().get(index), entityManagerFactoryBuilder));
+        }
+
+        int parallelism = properties.getParallelism() > 0 ? properties.getParallelism() : Math.max(1, shards.size());
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "warehouse-shard-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        log.info("Warehouse sharding enabled with {} shards keyed by {}", shards.size(), properties.getKey());
+        return new WarehouseShards(shards, properties.getKey(), executor);
+    }
+
+    private WarehouseShard createShard(int index, ShardingProperties.Shard shard,
+                                       EntityManagerFactoryBuilder entityManagerFactoryBuilder) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(shard.getUrl())
+                .username(shard.getUsername())
+                .password(shard.getPassword())
+                .build();
+        dataSource.setPoolName("warehouse-shard-" + index);
+
+        LocalContainerEntityManagerFactoryBean factoryBean = entityManagerFactoryBuilder
+                .dataSource(dataSource)
+                .packages(Warehouse.class)
+                .persistenceUnit("warehouse-shard-" + index)
+                .build();
+        factoryBean.afterPropertiesSet();
+        EntityManagerFactory entityManagerFactory = factoryBean.getObject();
+
+        WarehouseRepository repository = new JpaRepositoryFactory(
+                SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory))
+                .getRepository(WarehouseRepository.class);
+
+        return new WarehouseShard(index, repository, new JpaTransactionManager(entityManagerFactory), () -> {
+            factoryBean.destroy();
+            dataSource.close();
+        });
+    }
+}
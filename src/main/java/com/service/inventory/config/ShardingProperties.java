@@ -0,0 +1,33 @@
+package com.service.inventory.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "inventory.sharding")
+public class ShardingProperties {
+
+    private boolean enabled;
+
+    private ShardKey key = ShardKey.CODE_HASH;
+
+    // Threads used for scatter-gather reads; defaults to one per shard.
+    private int parallelism;
+
+    private List<Shard> shards = new ArrayList<>();
+
+    public enum ShardKey {
+        COUNTRY,
+        CODE_HASH
+    }
+
+    @Data
+    public static class Shard {
+        private String url;
+        private String username;
+        private String password;
+    }
+}
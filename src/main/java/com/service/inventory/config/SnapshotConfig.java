@@ -0,0 +1,38 @@
+package com.service.inventory.config;
+
+import com.service.inventory.impl.GroupCommitWarehouseService;
+import com.service.inventory.impl.SnapshotWarehouseService;
+import com.service.inventory.impl.WarehouseServiceImpl;
+import com.service.inventory.mapper.WarehouseMapper;
+import com.service.inventory.repository.WarehouseRepository;
+import com.service.inventory.service.WarehouseService;
+import com.service.inventory.snapshot.WarehouseSnapshotStore;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+// The snapshot loads from the primary WarehouseRepository, so it is only available without sharding.
+@Configuration
+@ConditionalOnExpression("${inventory.snapshot.enabled:false} and !${inventory.sharding.enabled:false}")
+@EnableConfigurationProperties(SnapshotProperties.class)
+public class SnapshotConfig {
+
+    @Bean
+    public WarehouseSnapshotStore warehouseSnapshotStore(WarehouseRepository warehouseRepository,
+                                                         WarehouseMapper warehouseMapper,
+                                                         SnapshotProperties properties) {
+        return new WarehouseSnapshotStore(warehouseRepository, warehouseMapper, properties);
+    }
+
+    @Bean
+    @Primary
+    public SnapshotWarehouseService snapshotWarehouseService(WarehouseServiceImpl warehouseServiceImpl,
+                                                             ObjectProvider<GroupCommitWarehouseService> groupCommit,
+                                                             WarehouseSnapshotStore warehouseSnapshotStore) {
+        WarehouseService delegate = groupCommit.getIfAvailable();
+        return new SnapshotWarehouseService(delegate != null ? delegate : warehouseServiceImpl, warehouseSnapshotStore);
+    }
+}
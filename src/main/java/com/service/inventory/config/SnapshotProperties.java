@@ -0,0 +1,24 @@
+package com.service.inventory.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "inventory.snapshot")
+public class SnapshotProperties {
+
+    private boolean enabled;
+
+    // Upper bound on how long a committed write may be invisible to snapshot reads. Writes made by other instances
+    // are found by polling updated_at at the same rate; see pollOverlap for the exceptions.
+    private Duration maxStaleness = Duration.ofSeconds(1);
+
+    // How far each updated_at poll reaches back before the previous one, to cover clock skew between instances and
+    // transactions that commit after stamping their rows. Rows stamped earlier than that, and rows hard-deleted by
+    // other instances, only show up on the full refresh.
+    private Duration pollOverlap = Duration.ofSeconds(5);
+
+    private Duration fullRefreshInterval = Duration.ofMinutes(10);
+}
@@ -0,0 +1,23 @@
+package com.service.inventory.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "inventory.stock")
+public class StockProperties {
+
+    // How often accumulated stock movements are written to the database.
+    private Duration flushInterval = Duration.ofMillis(200);
+
+    // Local movement journal, fsynced before a movement is acknowledged and replayed on startup. Must be on local
+    // disk and used by one instance only.
+    private Path journalDirectory = Path.of("data", "stock-journal");
+
+    // Consecutive failed flushes before the batch is retried per SKU and the rows the database rejects are
+    // dead-lettered to stock-dead-letters.log in the journal directory.
+    private int maxFlushAttempts = 5;
+}
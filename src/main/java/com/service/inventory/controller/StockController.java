@@ -0,0 +1,89 @@
+package com.service.inventory.controller;
+
+import com.service.inventory.dto.StockLevelDto;
+import com.service.inventory.dto.StockMovementRequest;
+import com.service.inventory.service.StockService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/warehouses/{warehouseId}/stock")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Stock Management", description = "APIs for managing per-warehouse stock levels")
+public class StockController {
+
+    private final StockService stockService;
+
+    @GetMapping("/{sku}")
+    @Operation(summary = "Get stock level", description = "Retrieves the stock level of a SKU in a warehouse")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stock level retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Warehouse not found"),
+            @ApiResponse(responseCode = "409", description = "Warehouse is inactive")
+    })
+    public ResponseEntity<StockLevelDto> getStock(@PathVariable UUID warehouseId, @PathVariable String sku) {
+        return ResponseEntity.ok(stockService.getStock(warehouseId, sku));
+    }
+
+    @PostMapping("/{sku}/increment")
+    @Operation(summary = "Increment stock", description = "Adds units of a SKU to a warehouse")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stock incremented successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid input data"),
+            @ApiResponse(responseCode = "404", description = "Warehouse not found"),
+            @ApiResponse(responseCode = "409", description = "Warehouse is inactive")
+    })
+    public ResponseEntity<StockLevelDto> increment(@PathVariable UUID warehouseId, @PathVariable String sku,
+                                                   @Valid @RequestBody StockMovementRequest request) {
+        return ResponseEntity.ok(stockService.increment(warehouseId, sku, request.getQuantity()));
+    }
+
+    @PostMapping("/{sku}/decrement")
+    @Operation(summary = "Decrement stock", description = "Removes available units of a SKU from a warehouse")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stock decremented successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid input data"),
+            @ApiResponse(responseCode = "404", description = "Warehouse not found"),
+            @ApiResponse(responseCode = "409", description = "Insufficient available stock or inactive warehouse")
+    })
+    public ResponseEntity<StockLevelDto> decrement(@PathVariable UUID warehouseId, @PathVariable String sku,
+                                                   @Valid @RequestBody StockMovementRequest request) {
+        return ResponseEntity.ok(stockService.decrement(warehouseId, sku, request.getQuantity()));
+    }
+
+    @PostMapping("/{sku}/reserve")
+    @Operation(summary = "Reserve stock", description = "Reserves available units of a SKU in a warehouse")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stock reserved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid input data"),
+            @ApiResponse(responseCode = "404", description = "Warehouse not found"),
+            @ApiResponse(responseCode = "409", description = "Insufficient available stock or inactive warehouse")
+    })
+    public ResponseEntity<StockLevelDto> reserve(@PathVariable UUID warehouseId, @PathVariable String sku,
+                                                 @Valid @RequestBody StockMovementRequest request) {
+        return ResponseEntity.ok(stockService.reserve(warehouseId, sku, request.getQuantity()));
+    }
+
+    @PostMapping("/{sku}/release")
+    @Operation(summary = "Release reserved stock", description = "Returns reserved units of a SKU to available stock")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Reservation released successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid input data"),
+            @ApiResponse(responseCode = "404", description = "Warehouse not found"),
+            @ApiResponse(responseCode = "409", description = "Not enough reserved stock or inactive warehouse")
+    })
+    public ResponseEntity<StockLevelDto> release(@PathVariable UUID warehouseId, @PathVariable String sku,
+                                                 @Valid @RequestBody StockMovementRequest request) {
+        return ResponseEntity.ok(stockService.release(warehouseId, sku, request.getQuantity()));
+    }
+}
@@ -49,7 +49,7 @@ public class WarehouseController {
             @ApiResponse(responseCode = "404", description = "Warehouse not found")
     })
     public ResponseEntity<WarehouseDto> getWarehouseById(@PathVariable UUID id) {
-        log.info("Fetching warehouse with ID: {}", id);
+        log.debug("Fetching warehouse with ID: {}", id);
         WarehouseDto warehouse = warehouseService.getWarehouseById(id);
         return ResponseEntity.ok(warehouse);
     }
@@ -61,7 +61,7 @@ public class WarehouseController {
             @ApiResponse(responseCode = "404", description = "Warehouse not found")
     })
     public ResponseEntity<WarehouseDto> getWarehouseByCode(@PathVariable String code) {
-        log.info("Fetching warehouse with code: {}", code);
+        log.debug("Fetching warehouse with code: {}", code);
         WarehouseDto warehouse = warehouseService.getWarehouseByCode(code);
         return ResponseEntity.ok(warehouse);
     }
@@ -0,0 +1,20 @@
+package com.service.inventory.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockLevelDto {
+    private UUID warehouseId;
+    private String sku;
+    private long quantity;
+    private long reserved;
+    private long available;
+}
@@ -0,0 +1,43 @@
+package com.service.inventory.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "stock_levels")
+@IdClass(StockLevel.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StockLevel {
+
+    @Id
+    @Column(nullable = false)
+    private UUID warehouseId;
+
+    @Id
+    @Column(nullable = false, length = 64)
+    private String sku;
+
+    @Column(nullable = false)
+    private Long quantity;
+
+    @Column(nullable = false)
+    private Long reserved;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private UUID warehouseId;
+        private String sku;
+    }
+}
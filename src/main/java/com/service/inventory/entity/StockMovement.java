@@ -0,0 +1,37 @@
+package com.service.inventory.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "stock_movements",
+        indexes = {
+                @Index(name = "idx_stock_movement_item", columnList = "warehouse_id, sku")
+        })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StockMovement {
+
+    @Id
+    private Long sequence;
+
+    @Column(nullable = false)
+    private UUID warehouseId;
+
+    @Column(nullable = false, length = 64)
+    private String sku;
+
+    @Column(nullable = false)
+    private Long quantityDelta;
+
+    @Column(nullable = false)
+    private Long reservedDelta;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
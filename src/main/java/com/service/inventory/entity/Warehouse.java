@@ -14,7 +14,11 @@ import java.util.UUID;
 @Table(name = "warehouses",
         indexes = {
                 @Index(name = "idx_warehouse_code", columnList = "code"),
-                @Index(name = "idx_warehouse_city", columnList = "city")
+                @Index(name = "idx_warehouse_city", columnList = "city"),
+                @Index(name = "idx_warehouse_state", columnList = "state"),
+                @Index(name = "idx_warehouse_location", columnList = "country, state, city"),
+                @Index(name = "idx_warehouse_active", columnList = "is_active, id"),
+                @Index(name = "idx_warehouse_updated_at", columnList = "updated_at")
         })
 @EntityListeners(AuditingEntityListener.class)
 @Data
@@ -25,7 +29,7 @@ import java.util.UUID;
 public class Warehouse {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @AssignableUuid
     @EqualsAndHashCode.Include
     private UUID id;
 
@@ -0,0 +1,21 @@
+package com.service.inventory.event;
+
+import com.service.inventory.dto.WarehouseDto;
+
+import java.util.UUID;
+
+// Published by the warehouse services after a write; warehouse is null when the row was deleted.
+public record WarehouseChangedEvent(UUID id, WarehouseDto warehouse) {
+
+    public static WarehouseChangedEvent saved(WarehouseDto warehouse) {
+        return new WarehouseChangedEvent(warehouse.getId(), warehouse);
+    }
+
+    public static WarehouseChangedEvent deleted(UUID id) {
+        return new WarehouseChangedEvent(id, null);
+    }
+
+    public boolean isDeleted() {
+        return warehouse == null;
+    }
+}
@@ -0,0 +1,7 @@
+package com.service.inventory.exception;
+
+public class InactiveWarehouseException extends RuntimeException {
+    public InactiveWarehouseException(String message) {
+        super(message);
+    }
+}
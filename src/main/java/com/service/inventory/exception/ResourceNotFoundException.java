@@ -2,6 +2,7 @@ package com.service.inventory.exception;
 
 public class ResourceNotFoundException extends RuntimeException {
     public ResourceNotFoundException(String message) {
-        super(message);
+        // Thrown for every 404; the stack trace is never logged, so skip filling it in.
+        super(message, null, false, false);
     }
 }
@@ -0,0 +1,300 @@
+package com.service.inventory.groupcommit;
+
+import com.service.inventory.config.GroupCommitProperties;
+import com.service.inventory.dto.WarehouseDto;
+import com.service.inventory.entity.Warehouse;
+import com.service.inventory.event.WarehouseChangedEvent;
+import com.service.inventory.exception.DuplicateResourceException;
+import com.service.inventory.exception.ResourceNotFoundException;
+import com.service.inventory.mapper.WarehouseMapper;
+import com.service.inventory.repository.WarehouseRepository;
+import com.service.inventory.service.WarehouseService;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Funnels concurrent single-row warehouse writes through one committer thread, which applies them in group
+ * transactions of up to {@code max-batch-size} writes or {@code max-wait}, whichever comes first. Inserts and
+ * updates within a group go out as JDBC batches. If a group fails as a whole (a constraint race, an optimistic
+ * lock conflict, an invalid entity), its writes are replayed one by one through the per-call service so every
+ * caller still gets its own result or error.
+ * <p>
+ * After-commit listeners of the group's {@link WarehouseChangedEvent}s run on the committer thread before the next
+ * group starts, so they must only update in-memory state and hand any I/O to a thread of their own.
+ */
+@Slf4j
+public class WarehouseGroupCommitter implements DisposableBean {
+
+    private enum Kind {
+        CREATE, UPDATE, SOFT_DELETE
+    }
+
+    private record PendingWrite(Kind kind, UUID id, WarehouseDto warehouse, CompletableFuture<WarehouseDto> result) {
+    }
+
+    private final WarehouseRepository warehouseRepository;
+    private final WarehouseMapper warehouseMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final WarehouseService perCallService;
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+    private final long submitTimeoutNanos;
+    private final BlockingQueue<PendingWrite> queue;
+    private final Thread committer;
+
+    private volatile boolean running = true;
+    private PendingWrite carryOver;
+
+    public WarehouseGroupCommitter(WarehouseRepository warehouseRepository, WarehouseMapper warehouseMapper,
+                                   ApplicationEventPublisher eventPublisher, EntityManager entityManager,
+                                   PlatformTransactionManager transactionManager, WarehouseService perCallService,
+                                   GroupCommitProperties properties) {
+        this.warehouseRepository = warehouseRepository;
+        this.warehouseMapper = warehouseMapper;
+        this.eventPublisher = eventPublisher;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.perCallService = perCallService;
+        this.maxBatchSize = properties.getMaxBatchSize();
+        this.maxWaitNanos = properties.getMaxWait().toNanos();
+        this.submitTimeoutNanos = properties.getSubmitTimeout().toNanos();
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.committer = new Thread(this::run, "warehouse-group-commit");
+        this.committer.setDaemon(true);
+        this.committer.start();
+    }
+
+    public WarehouseDto create(WarehouseDto warehouseDto) {
+        return submit(new PendingWrite(Kind.CREATE, null, warehouseDto, new CompletableFuture<>()));
+    }
+
+    public WarehouseDto update(UUID id, WarehouseDto warehouseDto) {
+        return submit(new PendingWrite(Kind.UPDATE, id, warehouseDto, new CompletableFuture<>()));
+    }
+
+    public void softDelete(UUID id) {
+        submit(new PendingWrite(Kind.SOFT_DELETE, id, null, new CompletableFuture<>()));
+    }
+
+    // Lets queued writes finish; new writes arriving meanwhile commit on their own.
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        committer.join(TimeUnit.SECONDS.toMillis(10));
+        if (!committer.isAlive()) {
+            replayRemaining();
+        }
+    }
+
+    private WarehouseDto submit(PendingWrite write) {
+        if (!running || !queue.offer(write)) {
+            return applyIndividually(write);
+        }
+        try {
+            return write.result().get(submitTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (TimeoutException ex) {
+            return abandon(write, "was not committed within " + Duration.ofNanos(submitTimeoutNanos));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return abandon(write, "was interrupted while waiting for its group");
+        }
+    }
+
+    // A write the committer never picked up (for example one queued just as it stopped) is applied on its own.
+    private WarehouseDto abandon(PendingWrite write, String reason) {
+        if (queue.remove(write)) {
+            log.warn("Queued warehouse {} {}, committing it on its own", write.kind(), reason);
+            return applyIndividually(write);
+        }
+        throw new IllegalStateException("Warehouse " + write.kind() + " " + reason + "; its outcome is unknown");
+    }
+
+    private void run() {
+        try {
+            while (running || carryOver != null || !queue.isEmpty()) {
+                List<PendingWrite> group;
+                try {
+                    group = nextGroup();
+                } catch (InterruptedException ex) {
+                    log.warn("Warehouse group committer interrupted, committing queued writes on their own");
+                    return;
+                }
+                if (!group.isEmpty()) {
+                    commitSafely(group);
+                }
+            }
+        } finally {
+            replayRemaining();
+        }
+    }
+
+    // Anything thrown past commit() fails only this group, so no caller is left waiting and the thread keeps going.
+    private void commitSafely(List<PendingWrite> group) {
+        try {
+            commit(group);
+        } catch (Throwable ex) {
+            log.error("Warehouse group committer failed on a group of {}: {}", group.size(), ex.toString(), ex);
+            group.forEach(write -> write.result().completeExceptionally(ex));
+        }
+    }
+
+    private void replayRemaining() {
+        if (carryOver != null) {
+            replay(carryOver);
+            carryOver = null;
+        }
+        PendingWrite write;
+        while ((write = queue.poll()) != null) {
+            replay(write);
+        }
+    }
+
+    // A second write to a row already in the group waits for the next group, so each caller sees only its own change.
+    private List<PendingWrite> nextGroup() throws InterruptedException {
+        PendingWrite first = carryOver != null ? carryOver : queue.poll(100, TimeUnit.MILLISECONDS);
+        carryOver = null;
+        if (first == null) {
+            return List.of();
+        }
+
+        List<PendingWrite> group = new ArrayList<>(maxBatchSize);
+        Set<UUID> targets = new HashSet<>();
+        group.add(first);
+        if (first.id() != null) {
+            targets.add(first.id());
+        }
+
+        long deadline = System.nanoTime() + maxWaitNanos;
+        while (group.size() < maxBatchSize) {
+            long remaining = deadline - System.nanoTime();
+            PendingWrite next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+            if (next == null) {
+                break;
+            }
+            if (next.id() != null && !targets.add(next.id())) {
+                carryOver = next;
+                break;
+            }
+            group.add(next);
+        }
+        return group;
+    }
+
+    private void commit(List<PendingWrite> group) {
+        List<Runnable> completions = new ArrayList<>(group.size());
+        try {
+            transactionTemplate.executeWithoutResult(status -> apply(group, completions));
+        } catch (RuntimeException ex) {
+            log.debug("Group of {} warehouse writes failed ({}), replaying individually", group.size(), ex.toString());
+            group.forEach(this::replay);
+            return;
+        }
+        log.debug("Committed group of {} warehouse writes", group.size());
+        completions.forEach(Runnable::run);
+    }
+
+    // Callers are only completed after the group commits; on rollback everything is replayed instead.
+    private void apply(List<PendingWrite> group, List<Runnable> completions) {
+        entityManager.unwrap(Session.class).setJdbcBatchSize(group.size());
+
+        Set<String> codes = group.stream()
+                .filter(write -> write.kind() == Kind.CREATE)
+                .map(write -> write.warehouse().getCode())
+                .collect(Collectors.toSet());
+        Set<String> takenCodes = codes.isEmpty() ? new HashSet<>()
+                : new HashSet<>(warehouseRepository.findExistingCodes(codes));
+        Set<UUID> ids = group.stream()
+                .map(PendingWrite::id)
+                .filter(id -> id != null)
+                .collect(Collectors.toSet());
+        Map<UUID, Warehouse> targets = ids.isEmpty() ? Map.of()
+                : warehouseRepository.findAllById(ids).stream()
+                        .collect(Collectors.toMap(Warehouse::getId, Function.identity()));
+
+        List<PendingWrite> applied = new ArrayList<>(group.size());
+        List<Warehouse> entities = new ArrayList<>(group.size());
+        for (PendingWrite write : group) {
+            Warehouse warehouse;
+            if (write.kind() == Kind.CREATE) {
+                if (!takenCodes.add(write.warehouse().getCode())) {
+                    completions.add(() -> write.result().completeExceptionally(new DuplicateResourceException(
+                            "Warehouse with code '" + write.warehouse().getCode() + "' already exists")));
+                    continue;
+                }
+                warehouse = warehouseRepository.save(warehouseMapper.toEntity(write.warehouse()));
+            } else {
+                warehouse = targets.get(write.id());
+                if (warehouse == null) {
+                    completions.add(() -> write.result().completeExceptionally(
+                            new ResourceNotFoundException("Warehouse not found with ID: " + write.id())));
+                    continue;
+                }
+                if (write.kind() == Kind.UPDATE) {
+                    warehouseMapper.updateEntity(warehouse, write.warehouse());
+                } else {
+                    warehouse.setIsActive(false);
+                }
+            }
+            applied.add(write);
+            entities.add(warehouse);
+        }
+
+        entityManager.flush();
+        for (int index = 0; index < applied.size(); index++) {
+            PendingWrite write = applied.get(index);
+            WarehouseDto saved = warehouseMapper.toDto(entities.get(index));
+            eventPublisher.publishEvent(WarehouseChangedEvent.saved(saved));
+            completions.add(() -> write.result().complete(write.kind() == Kind.SOFT_DELETE ? null : saved));
+        }
+    }
+
+    private void replay(PendingWrite write) {
+        try {
+            write.result().complete(applyIndividually(write));
+        } catch (Throwable ex) {
+            write.result().completeExceptionally(ex);
+        }
+    }
+
+    private WarehouseDto applyIndividually(PendingWrite write) {
+        return switch (write.kind()) {
+            case CREATE -> perCallService.createWarehouse(write.warehouse());
+            case UPDATE -> perCallService.updateWarehouse(write.id(), write.warehouse());
+            case SOFT_DELETE -> {
+                perCallService.softDeleteWarehouse(write.id());
+                yield null;
+            }
+        };
+    }
+}
@@ -0,0 +1,96 @@
+package com.service.inventory.impl;
+
+import com.service.inventory.dto.WarehouseDto;
+import com.service.inventory.groupcommit.WarehouseGroupCommitter;
+import com.service.inventory.service.WarehouseService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.UUID;
+
+// Routes create, update and soft-delete through the group committer; everything else goes straight to the delegate.
+@RequiredArgsConstructor
+public class GroupCommitWarehouseService implements WarehouseService {
+
+    private final WarehouseService delegate;
+    private final WarehouseGroupCommitter warehouseGroupCommitter;
+
+    @Override
+    public WarehouseDto createWarehouse(WarehouseDto warehouseDto) {
+        return warehouseGroupCommitter.create(warehouseDto);
+    }
+
+    @Override
+    public WarehouseDto getWarehouseById(UUID id) {
+        return delegate.getWarehouseById(id);
+    }
+
+    @Override
+    public WarehouseDto getWarehouseByCode(String code) {
+        return delegate.getWarehouseByCode(code);
+    }
+
+    @Override
+    public List<WarehouseDto> getAllWarehouses() {
+        return delegate.getAllWarehouses();
+    }
+
+    @Override
+    public Page<WarehouseDto> getAllWarehouses(Pageable pageable) {
+        return delegate.getAllWarehouses(pageable);
+    }
+
+    @Override
+    public List<WarehouseDto> getActiveWarehouses() {
+        return delegate.getActiveWarehouses();
+    }
+
+    @Override
+    public Page<WarehouseDto> getActiveWarehouses(Pageable pageable) {
+        return delegate.getActiveWarehouses(pageable);
+    }
+
+    @Override
+    public WarehouseDto updateWarehouse(UUID id, WarehouseDto warehouseDto) {
+        return warehouseGroupCommitter.update(id, warehouseDto);
+    }
+
+    @Override
+    public void deleteWarehouse(UUID id) {
+        delegate.deleteWarehouse(id);
+    }
+
+    @Override
+    public void softDeleteWarehouse(UUID id) {
+        warehouseGroupCommitter.softDelete(id);
+    }
+
+    @Override
+    public List<WarehouseDto> getWarehousesByCity(String city) {
+        return delegate.getWarehousesByCity(city);
+    }
+
+    @Override
+    public List<WarehouseDto> getWarehousesByState(String state) {
+        return delegate.getWarehousesByState(state);
+    }
+
+    @Override
+    public List<WarehouseDto> getWarehousesByCountry(String country) {
+        return delegate.getWarehousesByCountry(country);
+    }
+
+    @Override
+    public Page<WarehouseDto> searchWarehouses(String code, String name, String city,
+                                               String state, String country, Boolean isActive,
+                                               Pageable pageable) {
+        return delegate.searchWarehouses(code, name, city, state, country, isActive, pageable);
+    }
+
+    @Override
+    public boolean existsByCode(String code) {
+        return delegate.existsByCode(code);
+    }
+}
@@ -0,0 +1,222 @@
+package com.service.inventory.impl;
+
+import com.service.inventory.cache.NegativeLookupCache;
+import com.service.inventory.dto.WarehouseDto;
+import com.service.inventory.entity.Warehouse;
+import com.service.inventory.event.WarehouseChangedEvent;
+import com.service.inventory.exception.DuplicateResourceException;
+import com.service.inventory.exception.ResourceNotFoundException;
+import com.service.inventory.mapper.WarehouseMapper;
+import com.service.inventory.service.WarehouseService;
+import com.service.inventory.sharding.WarehouseShard;
+import com.service.inventory.sharding.WarehouseShards;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+@ConditionalOnProperty(prefix = "inventory.sharding", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class ShardedWarehouseServiceImpl implements WarehouseService {
+
+    private final WarehouseShards warehouseShards;
+    private final WarehouseMapper warehouseMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final NegativeLookupCache negativeLookupCache;
+
+    @Override
+    public WarehouseDto createWarehouse(WarehouseDto warehouseDto) {
+        log.info("Creating warehouse with code: {}", warehouseDto.getCode());
+
+        if (existsByCode(warehouseDto.getCode())) {
+            throw new DuplicateResourceException("Warehouse with code '" + warehouseDto.getCode() + "' already exists");
+        }
+
+        Warehouse warehouse = warehouseMapper.toEntity(warehouseDto);
+        WarehouseShard shard = warehouseShards.forWarehouse(warehouse);
+        warehouse.setId(warehouseShards.newIdFor(shard));
+        Warehouse saved = shard.write(repository -> repository.save(warehouse));
+
+        log.info("Warehouse successfully created with ID: {} on {}", saved.getId(), shard);
+        WarehouseDto created = warehouseMapper.toDto(saved);
+        eventPublisher.publishEvent(WarehouseChangedEvent.saved(created));
+        return created;
+    }
+
+    @Override
+    public WarehouseDto getWarehouseById(UUID id) {
+        log.debug("Fetching warehouse with ID: {}", id);
+
+        if (negativeLookupCache.isMissingId(id)) {
+            throw new ResourceNotFoundException("Warehouse not found with ID: " + id);
+        }
+        long generation = negativeLookupCache.generation();
+
+        Warehouse warehouse = warehouseShards.forId(id).read(repository -> repository.findById(id))
+                .orElseThrow(() -> {
+                    negativeLookupCache.rememberMissingId(id, generation);
+                    return new ResourceNotFoundException("Warehouse not found with ID: " + id);
+                });
+
+        return warehouseMapper.toDto(warehouse);
+    }
+
+    @Override
+    public WarehouseDto getWarehouseByCode(String code) {
+        log.debug("Fetching warehouse with code: {}", code);
+
+        if (negativeLookupCache.isMissingCode(code)) {
+            throw new ResourceNotFoundException("Warehouse not found with code: " + code);
+        }
+        long generation = negativeLookupCache.generation();
+
+        Optional<Warehouse> warehouse = warehouseShards.forCode(code)
+                .map(shard -> shard.read(repository -> repository.findByCode(code)))
+                .orElseGet(() -> warehouseShards.readAll(repository -> repository.findByCode(code)).stream()
+                        .flatMap(Optional::stream)
+                        .findFirst());
+
+        return warehouse.map(warehouseMapper::toDto)
+                .orElseThrow(() -> {
+                    negativeLookupCache.rememberMissingCode(code, generation);
+                    return new ResourceNotFoundException("Warehouse not found with code: " + code);
+                });
+    }
+
+    @Override
+    public List<WarehouseDto> getAllWarehouses() {
+        log.info("Fetching all warehouses");
+
+        return toDtos(warehouseShards.readList(repository -> repository.findAll()));
+    }
+
+    @Override
+    public Page<WarehouseDto> getAllWarehouses(Pageable pageable) {
+        log.info("Fetching all warehouses with pagination");
+
+        return warehouseShards.readPage((repository, page) -> repository.findAll(page), pageable)
+                .map(warehouseMapper::toDto);
+    }
+
+    @Override
+    public List<WarehouseDto> getActiveWarehouses() {
+        log.info("Fetching active warehouses");
+
+        return toDtos(warehouseShards.readList(repository -> repository.findByIsActiveTrue()));
+    }
+
+    @Override
+    public Page<WarehouseDto> getActiveWarehouses(Pageable pageable) {
+        log.info("Fetching active warehouses with pagination");
+
+        return warehouseShards.readPage((repository, page) -> repository.findByIsActiveTrue(page), pageable)
+                .map(warehouseMapper::toDto);
+    }
+
+    @Override
+    public WarehouseDto updateWarehouse(UUID id, WarehouseDto warehouseDto) {
+        log.info("Updating warehouse with ID: {}", id);
+
+        WarehouseShard shard = warehouseShards.forId(id);
+        Warehouse warehouse = shard.write(repository -> {
+            Warehouse existing = repository.findById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Warehouse not found with ID: " + id));
+
+            warehouseMapper.updateEntity(existing, warehouseDto);
+            if (warehouseShards.forWarehouse(existing) != shard) {
+                throw new IllegalArgumentException("Warehouse shard key cannot be changed for ID: " + id);
+            }
+            return repository.save(existing);
+        });
+
+        log.info("Warehouse updated successfully with ID: {}", id);
+        WarehouseDto updated = warehouseMapper.toDto(warehouse);
+        eventPublisher.publishEvent(WarehouseChangedEvent.saved(updated));
+        return updated;
+    }
+
+    @Override
+    public void deleteWarehouse(UUID id) {
+        log.info("Deleting warehouse with ID: {}", id);
+
+        warehouseShards.forId(id).write(repository -> {
+            Warehouse warehouse = repository.findById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Warehouse not found with ID: " + id));
+            repository.delete(warehouse);
+            return null;
+        });
+        eventPublisher.publishEvent(WarehouseChangedEvent.deleted(id));
+
+        log.info("Warehouse deleted successfully with ID: {}", id);
+    }
+
+    @Override
+    public void softDeleteWarehouse(UUID id) {
+        log.info("Soft deleting warehouse with ID: {}", id);
+
+        Warehouse warehouse = warehouseShards.forId(id).write(repository -> {
+            Warehouse existing = repository.findById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Warehouse not found with ID: " + id));
+            existing.setIsActive(false);
+            return repository.save(existing);
+        });
+        eventPublisher.publishEvent(WarehouseChangedEvent.saved(warehouseMapper.toDto(warehouse)));
+
+        log.info("Warehouse soft deleted successfully with ID: {}", id);
+    }
+
+    @Override
+    public List<WarehouseDto> getWarehousesByCity(String city) {
+        log.info("Fetching warehouses by city: {}", city);
+
+        return toDtos(warehouseShards.readList(repository -> repository.findByCity(city)));
+    }
+
+    @Override
+    public List<WarehouseDto> getWarehousesByState(String state) {
+        log.info("Fetching warehouses by state: {}", state);
+
+        return toDtos(warehouseShards.readList(repository -> repository.findByState(state)));
+    }
+
+    @Override
+    public List<WarehouseDto> getWarehousesByCountry(String country) {
+        log.info("Fetching warehouses by country: {}", country);
+
+        List<Warehouse> warehouses = warehouseShards.forCountry(country)
+                .map(shard -> shard.read(repository -> repository.findByCountry(country)))
+                .orElseGet(() -> warehouseShards.readList(repository -> repository.findByCountry(country)));
+        return toDtos(warehouses);
+    }
+
+    @Override
+    public Page<WarehouseDto> searchWarehouses(String code, String name, String city,
+                                               String state, String country, Boolean isActive,
+                                               Pageable pageable) {
+        log.info("Searching warehouses with filters");
+
+        return warehouseShards.readPage((repository, page) ->
+                        repository.findWithFilters(code, name, city, state, country, isActive, page), pageable)
+                .map(warehouseMapper::toDto);
+    }
+
+    @Override
+    public boolean existsByCode(String code) {
+        return warehouseShards.forCode(code)
+                .map(shard -> shard.read(repository -> repository.existsByCode(code)))
+                .orElseGet(() -> warehouseShards.readAll(repository -> repository.existsByCode(code)).contains(true));
+    }
+
+    private List<WarehouseDto> toDtos(List<Warehouse> warehouses) {
+        return warehouseMapper.toDtoList(warehouses);
+    }
+}
@@ -0,0 +1,122 @@
+package com.service.inventory.impl;
+
+import com.service.inventory.dto.WarehouseDto;
+import com.service.inventory.service.WarehouseService;
+import com.service.inventory.snapshot.WarehouseSnapshotStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.UUID;
+
+// Answers filter queries from the in-memory snapshot once it is loaded; everything else goes to the database.
+@RequiredArgsConstructor
+@Slf4j
+public class SnapshotWarehouseService implements WarehouseService {
+
+    private final WarehouseService delegate;
+    private final WarehouseSnapshotStore warehouseSnapshotStore;
+
+    @Override
+    public WarehouseDto createWarehouse(WarehouseDto warehouseDto) {
+        return delegate.createWarehouse(warehouseDto);
+    }
+
+    @Override
+    public WarehouseDto getWarehouseById(UUID id) {
+        return delegate.getWarehouseById(id);
+    }
+
+    @Override
+    public WarehouseDto getWarehouseByCode(String code) {
+        return delegate.getWarehouseByCode(code);
+    }
+
+    @Override
+    public List<WarehouseDto> getAllWarehouses() {
+        return delegate.getAllWarehouses();
+    }
+
+    @Override
+    public Page<WarehouseDto> getAllWarehouses(Pageable pageable) {
+        return delegate.getAllWarehouses(pageable);
+    }
+
+    @Override
+    public List<WarehouseDto> getActiveWarehouses() {
+        if (!warehouseSnapshotStore.isReady()) {
+            return delegate.getActiveWarehouses();
+        }
+        log.debug("Serving active warehouses from snapshot");
+        return warehouseSnapshotStore.findActive();
+    }
+
+    @Override
+    public Page<WarehouseDto> getActiveWarehouses(Pageable pageable) {
+        if (!warehouseSnapshotStore.isReady()) {
+            return delegate.getActiveWarehouses(pageable);
+        }
+        log.debug("Serving paged active warehouses from snapshot");
+        return warehouseSnapshotStore.findActive(pageable);
+    }
+
+    @Override
+    public WarehouseDto updateWarehouse(UUID id, WarehouseDto warehouseDto) {
+        return delegate.updateWarehouse(id, warehouseDto);
+    }
+
+    @Override
+    public void deleteWarehouse(UUID id) {
+        delegate.deleteWarehouse(id);
+    }
+
+    @Override
+    public void softDeleteWarehouse(UUID id) {
+        delegate.softDeleteWarehouse(id);
+    }
+
+    @Override
+    public List<WarehouseDto> getWarehousesByCity(String city) {
+        if (!warehouseSnapshotStore.isReady()) {
+            return delegate.getWarehousesByCity(city);
+        }
+        log.debug("Serving warehouses by city {} from snapshot", city);
+        return warehouseSnapshotStore.findByCity(city);
+    }
+
+    @Override
+    public List<WarehouseDto> getWarehousesByState(String state) {
+        if (!warehouseSnapshotStore.isReady()) {
+            return delegate.getWarehousesByState(state);
+        }
+        log.debug("Serving warehouses by state {} from snapshot", state);
+        return warehouseSnapshotStore.findByState(state);
+    }
+
+    @Override
+    public List<WarehouseDto> getWarehousesByCountry(String country) {
+        if (!warehouseSnapshotStore.isReady()) {
+            return delegate.getWarehousesByCountry(country);
+        }
+        log.debug("Serving warehouses by country {} from snapshot", country);
+        return warehouseSnapshotStore.findByCountry(country);
+    }
+
+    @Override
+    public Page<WarehouseDto> searchWarehouses(String code, String name, String city,
+                                               String state, String country, Boolean isActive,
+                                               Pageable pageable) {
+        if (!warehouseSnapshotStore.isReady()) {
+            return delegate.searchWarehouses(code, name, city, state, country, isActive, pageable);
+        }
+        log.debug("Serving warehouse search from snapshot");
+        return warehouseSnapshotStore.search(code, name, city, state, country, isActive, pageable);
+    }
+
+    @Override
+    public boolean existsByCode(String code) {
+        return delegate.existsByCode(code);
+    }
+}
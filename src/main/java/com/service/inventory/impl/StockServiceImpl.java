@@ -0,0 +1,106 @@
+package com.service.inventory.impl;
+
+import com.service.inventory.dto.StockLevelDto;
+import com.service.inventory.dto.WarehouseDto;
+import com.service.inventory.event.WarehouseChangedEvent;
+import com.service.inventory.exception.InactiveWarehouseException;
+import com.service.inventory.service.StockService;
+import com.service.inventory.service.WarehouseService;
+import com.service.inventory.stock.StockLedger;
+import com.service.inventory.stock.StockLevels;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StockServiceImpl implements StockService {
+
+    private static final Pattern SKU_PATTERN = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+    private final StockLedger stockLedger;
+    private final WarehouseService warehouseService;
+    private final Set<UUID> activeWarehouses = ConcurrentHashMap.newKeySet();
+    private final AtomicLong warehouseDeactivations = new AtomicLong();
+
+    @Override
+    public StockLevelDto getStock(UUID warehouseId, String sku) {
+        requireTrackable(warehouseId, sku);
+        return toDto(warehouseId, sku, stockLedger.get(warehouseId, sku));
+    }
+
+    @Override
+    public StockLevelDto increment(UUID warehouseId, String sku, long quantity) {
+        log.debug("Incrementing SKU {} in warehouse {} by {}", sku, warehouseId, quantity);
+        requireTrackable(warehouseId, sku);
+        return toDto(warehouseId, sku, stockLedger.increment(warehouseId, sku, quantity));
+    }
+
+    @Override
+    public StockLevelDto decrement(UUID warehouseId, String sku, long quantity) {
+        log.debug("Decrementing SKU {} in warehouse {} by {}", sku, warehouseId, quantity);
+        requireTrackable(warehouseId, sku);
+        return toDto(warehouseId, sku, stockLedger.decrement(warehouseId, sku, quantity));
+    }
+
+    @Override
+    public StockLevelDto reserve(UUID warehouseId, String sku, long quantity) {
+        log.debug("Reserving {} of SKU {} in warehouse {}", quantity, sku, warehouseId);
+        requireTrackable(warehouseId, sku);
+        return toDto(warehouseId, sku, stockLedger.reserve(warehouseId, sku, quantity));
+    }
+
+    @Override
+    public StockLevelDto release(UUID warehouseId, String sku, long quantity) {
+        log.debug("Releasing {} of SKU {} in warehouse {}", quantity, sku, warehouseId);
+        requireTrackable(warehouseId, sku);
+        return toDto(warehouseId, sku, stockLedger.release(warehouseId, sku, quantity));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWarehouseChanged(WarehouseChangedEvent event) {
+        if (event.isDeleted() || !Boolean.TRUE.equals(event.warehouse().getIsActive())) {
+            warehouseDeactivations.incrementAndGet();
+            activeWarehouses.remove(event.id());
+            stockLedger.evictWarehouse(event.id());
+        }
+    }
+
+    // An active warehouse is looked up once and then trusted until it is deleted or deactivated.
+    private void requireTrackable(UUID warehouseId, String sku) {
+        if (!SKU_PATTERN.matcher(sku).matches()) {
+            throw new IllegalArgumentException("SKU must be 1-64 letters, digits, '.', '_' or '-'");
+        }
+        if (activeWarehouses.contains(warehouseId)) {
+            return;
+        }
+        long deactivations = warehouseDeactivations.get();
+        WarehouseDto warehouse = warehouseService.getWarehouseById(warehouseId);
+        if (!Boolean.TRUE.equals(warehouse.getIsActive())) {
+            throw new InactiveWarehouseException("Warehouse " + warehouseId + " is inactive");
+        }
+        activeWarehouses.add(warehouseId);
+        // A deactivation that raced the lookup may have made it stale; the next call looks the warehouse up again.
+        if (warehouseDeactivations.get() != deactivations) {
+            activeWarehouses.remove(warehouseId);
+        }
+    }
+
+    private static StockLevelDto toDto(UUID warehouseId, String sku, StockLevels levels) {
+        return StockLevelDto.builder()
+                .warehouseId(warehouseId)
+                .sku(sku)
+                .quantity(levels.quantity())
+                .reserved(levels.reserved())
+                .available(levels.available())
+                .build();
+    }
+}
@@ -1,7 +1,9 @@
 package com.service.inventory.impl;
 
+import com.service.inventory.cache.NegativeLookupCache;
 import com.service.inventory.dto.WarehouseDto;
 import com.service.inventory.entity.Warehouse;
+import com.service.inventory.event.WarehouseChangedEvent;
 import com.service.inventory.exception.ResourceNotFoundException;
 import com.service.inventory.exception.DuplicateResourceException;
 import com.service.inventory.mapper.WarehouseMapper;
@@ -9,16 +11,22 @@ import com.service.inventory.repository.WarehouseRepository;
 import com.service.inventory.service.WarehouseService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Fallback;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
+// Decorators such as SnapshotWarehouseService and GroupCommitWarehouseService take precedence when enabled.
 @Service
+@Fallback
+@ConditionalOnProperty(prefix = "inventory.sharding", name = "enabled", havingValue = "false", matchIfMissing = true)
 @RequiredArgsConstructor
 @Slf4j
 @Transactional
@@ -26,6 +34,8 @@ public class WarehouseServiceImpl implements WarehouseService {
 
     private final WarehouseRepository warehouseRepository;
     private final WarehouseMapper warehouseMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final NegativeLookupCache negativeLookupCache;
 
     @Override
     public WarehouseDto createWarehouse(WarehouseDto warehouseDto) {
@@ -39,27 +49,46 @@ public class WarehouseServiceImpl implements WarehouseService {
         warehouse = warehouseRepository.save(warehouse);
 
         log.info("Warehouse successfully created with ID: {}", warehouse.getId());
-        return warehouseMapper.toDto(warehouse);
+        WarehouseDto created = warehouseMapper.toDto(warehouse);
+        eventPublisher.publishEvent(WarehouseChangedEvent.saved(created));
+        return created;
     }
 
+    // Single-query lookups run without a surrounding transaction so that cached misses never take a connection.
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public WarehouseDto getWarehouseById(UUID id) {
-        log.info("Fetching warehouse with ID: {}", id);
+        log.debug("Fetching warehouse with ID: {}", id);
+
+        if (negativeLookupCache.isMissingId(id)) {
+            throw new ResourceNotFoundException("Warehouse not found with ID: " + id);
+        }
+        long generation = negativeLookupCache.generation();
 
         Warehouse warehouse = warehouseRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Warehouse not found with ID: " + id));
+                .orElseThrow(() -> {
+                    negativeLookupCache.rememberMissingId(id, generation);
+                    return new ResourceNotFoundException("Warehouse not found with ID: " + id);
+                });
 
         return warehouseMapper.toDto(warehouse);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public WarehouseDto getWarehouseByCode(String code) {
-        log.info("Fetching warehouse with code: {}", code);
+        log.debug("Fetching warehouse with code: {}", code);
+
+        if (negativeLookupCache.isMissingCode(code)) {
+            throw new ResourceNotFoundException("Warehouse not found with code: " + code);
+        }
+        long generation = negativeLookupCache.generation();
 
         Warehouse warehouse = warehouseRepository.findByCode(code)
-                .orElseThrow(() -> new ResourceNotFoundException("Warehouse not found with code: " + code));
+                .orElseThrow(() -> {
+                    negativeLookupCache.rememberMissingCode(code, generation);
+                    return new ResourceNotFoundException("Warehouse not found with code: " + code);
+                });
 
         return warehouseMapper.toDto(warehouse);
     }
@@ -69,9 +98,7 @@ public class WarehouseServiceImpl implements WarehouseService {
     public List<WarehouseDto> getAllWarehouses() {
         log.info("Fetching all warehouses");
 
-        return warehouseRepository.findAll().stream()
-                .map(warehouseMapper::toDto)
-                .collect(Collectors.toList());
+        return warehouseMapper.toDtoList(warehouseRepository.findAll());
     }
 
     @Override
@@ -88,9 +115,7 @@ public class WarehouseServiceImpl implements WarehouseService {
     public List<WarehouseDto> getActiveWarehouses() {
         log.info("Fetching active warehouses");
 
-        return warehouseRepository.findByIsActiveTrue().stream()
-                .map(warehouseMapper::toDto)
-                .collect(Collectors.toList());
+        return warehouseMapper.toDtoList(warehouseRepository.findByIsActiveTrue());
     }
 
     @Override
@@ -113,18 +138,20 @@ public class WarehouseServiceImpl implements WarehouseService {
         warehouse = warehouseRepository.save(warehouse);
 
         log.info("Warehouse updated successfully with ID: {}", id);
-        return warehouseMapper.toDto(warehouse);
+        WarehouseDto updated = warehouseMapper.toDto(warehouse);
+        eventPublisher.publishEvent(WarehouseChangedEvent.saved(updated));
+        return updated;
     }
 
     @Override
     public void deleteWarehouse(UUID id) {
         log.info("Deleting warehouse with ID: {}", id);
 
-        if (!warehouseRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Warehouse not found with ID: " + id);
-        }
+        Warehouse warehouse = warehouseRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Warehouse not found with ID: " + id));
 
-        warehouseRepository.deleteById(id);
+        warehouseRepository.delete(warehouse);
+        eventPublisher.publishEvent(WarehouseChangedEvent.deleted(id));
         log.info("Warehouse deleted successfully with ID: {}", id);
     }
 
@@ -136,7 +163,8 @@ public class WarehouseServiceImpl implements WarehouseService {
                 .orElseThrow(() -> new ResourceNotFoundException("Warehouse not found with ID: " + id));
 
         warehouse.setIsActive(false);
-        warehouseRepository.save(warehouse);
+        warehouse = warehouseRepository.save(warehouse);
+        eventPublisher.publishEvent(WarehouseChangedEvent.saved(warehouseMapper.toDto(warehouse)));
 
         log.info("Warehouse soft deleted successfully with ID: {}", id);
     }
@@ -146,9 +174,7 @@ public class WarehouseServiceImpl implements WarehouseService {
     public List<WarehouseDto> getWarehousesByCity(String city) {
         log.info("Fetching warehouses by city: {}", city);
 
-        return warehouseRepository.findByCity(city).stream()
-                .map(warehouseMapper::toDto)
-                .collect(Collectors.toList());
+        return warehouseMapper.toDtoList(warehouseRepository.findByCity(city));
     }
 
     @Override
@@ -156,9 +182,7 @@ public class WarehouseServiceImpl implements WarehouseService {
     public List<WarehouseDto> getWarehousesByState(String state) {
         log.info("Fetching warehouses by state: {}", state);
 
-        return warehouseRepository.findByState(state).stream()
-                .map(warehouseMapper::toDto)
-                .collect(Collectors.toList());
+        return warehouseMapper.toDtoList(warehouseRepository.findByState(state));
     }
 
     @Override
@@ -166,9 +190,7 @@ public class WarehouseServiceImpl implements WarehouseService {
     public List<WarehouseDto> getWarehousesByCountry(String country) {
         log.info("Fetching warehouses by country: {}", country);
 
-        return warehouseRepository.findByCountry(country).stream()
-                .map(warehouseMapper::toDto)
-                .collect(Collectors.toList());
+        return warehouseMapper.toDtoList(warehouseRepository.findByCountry(country));
     }
 
     @Override
@@ -0,0 +1,75 @@
+package com.service.inventory.profiling;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import org.springframework.data.domain.Slice;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Common fields of the hot-path JFR events. The duration comes from {@link #begin()} / {@link #end()}; the
+ * remaining fields are only filled in when the event passes the recording's threshold.
+ */
+public abstract class InventoryEvent extends Event {
+
+    @Label("Endpoint")
+    String endpoint;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Row Count")
+    long rowCount;
+
+    @Label("Failed")
+    boolean failed;
+
+    public void finish(Supplier<String> operation, Object result, boolean failed) {
+        end();
+        if (shouldCommit()) {
+            this.endpoint = currentEndpoint();
+            this.operation = operation.get();
+            this.rowCount = failed ? 0 : rowCount(result);
+            this.failed = failed;
+            commit();
+        }
+    }
+
+    // Work done outside a request (flushers, cache refreshes) has no endpoint.
+    private static String currentEndpoint() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return null;
+        }
+        HttpServletRequest request = servletAttributes.getRequest();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+    }
+
+    private static long rowCount(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Map<?, ?> map) {
+            return map.size();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        return 1;
+    }
+}
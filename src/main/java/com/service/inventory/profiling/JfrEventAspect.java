@@ -0,0 +1,58 @@
+package com.service.inventory.profiling;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.util.ClassUtils;
+
+// Wraps service, repository and mapper calls in JFR events. Outside a recording this is one isEnabled() check.
+@Aspect
+public class JfrEventAspect {
+
+    private static final String BASE_PACKAGE = "com.service.inventory.";
+
+    @Around("execution(* com.service.inventory.service..*(..))")
+    public Object serviceCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(new ServiceCallEvent(), joinPoint);
+    }
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object repositoryQuery(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(new RepositoryQueryEvent(), joinPoint);
+    }
+
+    @Around("execution(* com.service.inventory.mapper..*(..))")
+    public Object mapping(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(new MappingEvent(), joinPoint);
+    }
+
+    private static Object record(InventoryEvent event, ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        event.begin();
+        Object result = null;
+        boolean failed = true;
+        try {
+            result = joinPoint.proceed();
+            failed = false;
+            return result;
+        } finally {
+            event.finish(() -> operation(joinPoint), result, failed);
+        }
+    }
+
+    // Inherited repository methods are declared on CrudRepository and friends, so name the application interface.
+    private static String operation(ProceedingJoinPoint joinPoint) {
+        Class<?> type = joinPoint.getSignature().getDeclaringType();
+        if (!type.getName().startsWith(BASE_PACKAGE) && joinPoint.getTarget() != null) {
+            for (Class<?> candidate : ClassUtils.getAllInterfacesForClassAsSet(joinPoint.getTarget().getClass())) {
+                if (candidate.getName().startsWith(BASE_PACKAGE)) {
+                    type = candidate;
+                    break;
+                }
+            }
+        }
+        return type.getSimpleName() + "." + joinPoint.getSignature().getName();
+    }
+}
@@ -0,0 +1,287 @@
+package com.service.inventory.profiling;
+
+import com.service.inventory.config.JfrProperties;
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * {@code /actuator/jfr}: start (POST), stop (POST /{id}), download (GET /{id}) and discard (DELETE /{id})
+ * Java Flight Recorder recordings. Only recordings started here are listed or touched.
+ */
+@Endpoint(id = "jfr")
+@Slf4j
+public class JfrRecordingEndpoint implements DisposableBean {
+
+    private static final List<Class<? extends InventoryEvent>> INVENTORY_EVENTS = List.of(
+            ServiceCallEvent.class, RepositoryQueryEvent.class, MappingEvent.class, SerializationEvent.class);
+
+    // A dump nobody finished streaming (client gone before the body was written) is swept after this long.
+    private static final Duration ABANDONED_DUMP_AGE = Duration.ofHours(1);
+
+    private final JfrProperties properties;
+    private final Map<Long, Recording> recordings = new ConcurrentHashMap<>();
+    private final Path dumpDirectory;
+
+    public JfrRecordingEndpoint(JfrProperties properties) {
+        this.properties = properties;
+        try {
+            this.dumpDirectory = Files.createTempDirectory("inventory-jfr-");
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot create JFR dump directory", ex);
+        }
+    }
+
+    public record RecordingDescriptor(long id, String name, RecordingState state, Instant startTime,
+                                      Instant stopTime, Duration duration, Duration maxAge, long maxSize) {
+    }
+
+    @ReadOperation
+    public List<RecordingDescriptor> recordings() {
+        return recordings.values().stream()
+                .sorted(Comparator.comparingLong(Recording::getId))
+                .map(JfrRecordingEndpoint::describe)
+                .toList();
+    }
+
+    @WriteOperation
+    public synchronized WebEndpointResponse<RecordingDescriptor> start(@Nullable String settings,
+                                                                       @Nullable Duration duration,
+                                                                       @Nullable Duration maxAge,
+                                                                       @Nullable DataSize maxSize) {
+        if (!FlightRecorder.isAvailable()) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_SERVICE_UNAVAILABLE);
+        }
+        long running = recordings.values().stream()
+                .filter(recording -> recording.getState() == RecordingState.RUNNING)
+                .count();
+        if (running >= properties.getMaxRecordings()) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_TOO_MANY_REQUESTS);
+        }
+
+        String settingsName = settings != null ? settings : properties.getSettings();
+        Optional<Configuration> configuration = configuration(settingsName);
+        if (configuration.isEmpty()) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+
+        Recording recording = new Recording(configuration.get());
+        INVENTORY_EVENTS.forEach(event -> recording.enable(event).withThreshold(properties.getEventThreshold()));
+        recording.setName("inventory-" + recording.getId());
+        recording.setToDisk(true);
+        recording.setMaxAge(maxAge != null ? maxAge : properties.getMaxAge());
+        recording.setMaxSize((maxSize != null ? maxSize : properties.getMaxSize()).toBytes());
+        if (duration != null) {
+            recording.setDuration(duration);
+        }
+        recording.start();
+        recordings.put(recording.getId(), recording);
+        discardOldStoppedRecordings();
+
+        log.info("Started JFR recording {} with settings '{}'", recording.getName(), settingsName);
+        return new WebEndpointResponse<>(describe(recording));
+    }
+
+    @WriteOperation
+    public synchronized WebEndpointResponse<RecordingDescriptor> stop(@Selector long id) {
+        Recording recording = recordings.get(id);
+        if (recording == null) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        if (recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+            log.info("Stopped JFR recording {}", recording.getName());
+        }
+        discardOldStoppedRecordings();
+        return new WebEndpointResponse<>(describe(recording));
+    }
+
+    // A running recording is copied, so it can be downloaded repeatedly without stopping it.
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> download(@Selector long id) throws IOException {
+        Recording recording = recordings.get(id);
+        if (recording == null) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        deleteAbandonedDumps();
+        Path file = Files.createTempFile(dumpDirectory, recording.getName() + "-", ".jfr");
+        try {
+            dump(recording, file);
+        } catch (IOException | RuntimeException ex) {
+            Files.deleteIfExists(file);
+            throw ex;
+        }
+        return new WebEndpointResponse<>(new TemporaryFileSystemResource(file));
+    }
+
+    @DeleteOperation
+    public synchronized WebEndpointResponse<Void> discard(@Selector long id) {
+        Recording recording = recordings.remove(id);
+        if (recording == null) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        recording.close();
+        return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NO_CONTENT);
+    }
+
+    @Override
+    public void destroy() {
+        recordings.values().forEach(Recording::close);
+        recordings.clear();
+        try {
+            FileSystemUtils.deleteRecursively(dumpDirectory);
+        } catch (IOException ex) {
+            log.warn("Could not delete JFR dump directory {}: {}", dumpDirectory, ex.getMessage());
+        }
+    }
+
+    // Under the same monitor as stop and discard, so neither can close the recording mid-dump.
+    private synchronized void dump(Recording recording, Path file) throws IOException {
+        if (recording.getState() == RecordingState.RUNNING) {
+            try (Recording copy = recording.copy(true)) {
+                copy.dump(file);
+            }
+        } else {
+            recording.dump(file);
+        }
+    }
+
+    // Includes recordings that stopped on their own after their duration.
+    private void discardOldStoppedRecordings() {
+        List<Recording> stopped = recordings.values().stream()
+                .filter(recording -> recording.getState() == RecordingState.STOPPED)
+                .sorted(Comparator.comparingLong(Recording::getId))
+                .toList();
+        int excess = stopped.size() - properties.getMaxStoppedRecordings();
+        for (Recording recording : stopped.subList(0, Math.max(0, excess))) {
+            recordings.remove(recording.getId());
+            recording.close();
+            log.info("Discarded JFR recording {}, more than {} stopped recordings are kept", recording.getName(),
+                    properties.getMaxStoppedRecordings());
+        }
+    }
+
+    private void deleteAbandonedDumps() {
+        Instant cutoff = Instant.now().minus(ABANDONED_DUMP_AGE);
+        try (Stream<Path> dumps = Files.list(dumpDirectory)) {
+            for (Path dump : dumps.toList()) {
+                if (Files.getLastModifiedTime(dump).toInstant().isBefore(cutoff)) {
+                    Files.deleteIfExists(dump);
+                }
+            }
+        } catch (IOException ex) {
+            log.warn("Could not sweep JFR dump directory {}: {}", dumpDirectory, ex.getMessage());
+        }
+    }
+
+    // Rejected with a plain 400 rather than an exception, which the global @ExceptionHandler would turn into a 500.
+    private static Optional<Configuration> configuration(String settings) {
+        try {
+            return Optional.of(Configuration.getConfiguration(settings));
+        } catch (IOException | ParseException ex) {
+            log.warn("Unknown JFR settings '{}', available: {}", settings, Configuration.getConfigurations().stream()
+                    .map(Configuration::getName).toList());
+            return Optional.empty();
+        }
+    }
+
+    private static RecordingDescriptor describe(Recording recording) {
+        return new RecordingDescriptor(recording.getId(), recording.getName(), recording.getState(),
+                recording.getStartTime(), recording.getStopTime(), recording.getDuration(),
+                recording.getMaxAge(), recording.getMaxSize());
+    }
+
+    // Deletes the dump once it has been streamed. Not reported as a file, so it is never sent with sendfile.
+    private static final class TemporaryFileSystemResource extends FileSystemResource {
+
+        private TemporaryFileSystemResource(Path file) {
+            super(file);
+        }
+
+        @Override
+        public ReadableByteChannel readableChannel() throws IOException {
+            ReadableByteChannel channel = super.readableChannel();
+            return new ReadableByteChannel() {
+
+                @Override
+                public int read(ByteBuffer destination) throws IOException {
+                    return channel.read(destination);
+                }
+
+                @Override
+                public boolean isOpen() {
+                    return channel.isOpen();
+                }
+
+                @Override
+                public void close() throws IOException {
+                    try {
+                        channel.close();
+                    } finally {
+                        deleteFile();
+                    }
+                }
+            };
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return new FilterInputStream(super.getInputStream()) {
+
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        deleteFile();
+                    }
+                }
+            };
+        }
+
+        @Override
+        public boolean isFile() {
+            return false;
+        }
+
+        private void deleteFile() {
+            try {
+                Files.deleteIfExists(getFile().toPath());
+            } catch (IOException ex) {
+                log.warn("Could not delete JFR dump {}: {}", getPath(), ex.getMessage());
+            }
+        }
+    }
+}
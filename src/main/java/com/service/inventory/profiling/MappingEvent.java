@@ -0,0 +1,15 @@
+package com.service.inventory.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.service.inventory.Mapping")
+@Label("Entity Mapping")
+@Description("Conversion between entities and DTOs")
+@Category({"Inventory", "Mapping"})
+@StackTrace(false)
+public class MappingEvent extends InventoryEvent {
+}
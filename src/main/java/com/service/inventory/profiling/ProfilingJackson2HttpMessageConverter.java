@@ -0,0 +1,33 @@
+package com.service.inventory.profiling;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+// Replaces Boot's default JSON converter so response serialization shows up as a JFR event.
+public class ProfilingJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    public ProfilingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+        SerializationEvent event = new SerializationEvent();
+        if (!event.isEnabled()) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+        event.begin();
+        boolean failed = true;
+        try {
+            super.writeInternal(object, type, outputMessage);
+            failed = false;
+        } finally {
+            event.finish(() -> object.getClass().getSimpleName(), object, failed);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.service.inventory.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.service.inventory.RepositoryQuery")
+@Label("Repository Query")
+@Description("A Spring Data repository invocation, including its SQL")
+@Category({"Inventory", "Repository"})
+@StackTrace(false)
+public class RepositoryQueryEvent extends InventoryEvent {
+}
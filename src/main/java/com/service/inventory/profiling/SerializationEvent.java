@@ -0,0 +1,15 @@
+package com.service.inventory.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.service.inventory.Serialization")
+@Label("JSON Serialization")
+@Description("Encoding a response body as JSON")
+@Category({"Inventory", "Serialization"})
+@StackTrace(false)
+public class SerializationEvent extends InventoryEvent {
+}
@@ -0,0 +1,15 @@
+package com.service.inventory.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.service.inventory.ServiceCall")
+@Label("Service Call")
+@Description("A call into a service-layer method")
+@Category({"Inventory", "Service"})
+@StackTrace(false)
+public class ServiceCallEvent extends InventoryEvent {
+}
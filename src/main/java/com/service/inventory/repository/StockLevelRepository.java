@@ -0,0 +1,9 @@
+package com.service.inventory.repository;
+
+import com.service.inventory.entity.StockLevel;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface StockLevelRepository extends JpaRepository<StockLevel, StockLevel.Key> {
+}
@@ -8,6 +8,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -21,6 +23,11 @@ public interface WarehouseRepository extends JpaRepository<Warehouse, UUID> {
 
     boolean existsByCodeAndIdNot(String code, UUID id);
 
+    @Query("SELECT w.code FROM Warehouse w WHERE w.code IN :codes")
+    List<String> findExistingCodes(@Param("codes") Collection<String> codes);
+
+    List<Warehouse> findByUpdatedAtAfter(LocalDateTime since);
+
     List<Warehouse> findByIsActiveTrue();
 
     Page<Warehouse> findByIsActiveTrue(Pageable pageable);
@@ -0,0 +1,18 @@
+package com.service.inventory.service;
+
+import com.service.inventory.dto.StockLevelDto;
+
+import java.util.UUID;
+
+public interface StockService {
+
+    StockLevelDto getStock(UUID warehouseId, String sku);
+
+    StockLevelDto increment(UUID warehouseId, String sku, long quantity);
+
+    StockLevelDto decrement(UUID warehouseId, String sku, long quantity);
+
+    StockLevelDto reserve(UUID warehouseId, String sku, long quantity);
+
+    StockLevelDto release(UUID warehouseId, String sku, long quantity);
+}
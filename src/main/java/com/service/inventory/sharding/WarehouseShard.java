@@ -0,0 +1,48 @@
+package com.service.inventory.sharding;
+
+import com.service.inventory.repository.WarehouseRepository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Function;
+
+public class WarehouseShard implements AutoCloseable {
+
+    private final int index;
+    private final WarehouseRepository repository;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate writeTransaction;
+    private final Runnable release;
+
+    public WarehouseShard(int index, WarehouseRepository repository,
+                          PlatformTransactionManager transactionManager, Runnable release) {
+        this.index = index;
+        this.repository = repository;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.release = release;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public <T> T read(Function<WarehouseRepository, T> work) {
+        return readTransaction.execute(status -> work.apply(repository));
+    }
+
+    public <T> T write(Function<WarehouseRepository, T> work) {
+        return writeTransaction.execute(status -> work.apply(repository));
+    }
+
+    @Override
+    public void close() {
+        release.run();
+    }
+
+    @Override
+    public String toString() {
+        return "WarehouseShard[" + index + "]";
+    }
+}
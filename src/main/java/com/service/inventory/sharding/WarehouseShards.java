@@ -0,0 +1,132 @@
+package com.service.inventory.sharding;
+
+import com.service.inventory.config.ShardingProperties.ShardKey;
+import com.service.inventory.entity.Warehouse;
+import com.service.inventory.repository.WarehouseRepository;
+import com.service.inventory.util.SortComparators;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Routes warehouse reads and writes across shards. A warehouse lives on the shard chosen by its shard key,
+ * and its ID is picked so that it hashes to the same shard, which keeps lookups by ID on a single shard.
+ */
+@Slf4j
+public class WarehouseShards implements DisposableBean {
+
+    private final List<WarehouseShard> shards;
+    private final ShardKey shardKey;
+    private final ExecutorService executor;
+
+    public WarehouseShards(List<WarehouseShard> shards, ShardKey shardKey, ExecutorService executor) {
+        if (shards.isEmpty()) {
+            throw new IllegalArgumentException("At least one warehouse shard must be configured");
+        }
+        this.shards = List.copyOf(shards);
+        this.shardKey = shardKey;
+        this.executor = executor;
+    }
+
+    public List<WarehouseShard> all() {
+        return shards;
+    }
+
+    public WarehouseShard forId(UUID id) {
+        return shards.get(indexOf(id));
+    }
+
+    public WarehouseShard forWarehouse(Warehouse warehouse) {
+        String key = shardKey == ShardKey.COUNTRY ? warehouse.getCountry() : warehouse.getCode();
+        return shards.get(indexOf(key));
+    }
+
+    public Optional<WarehouseShard> forCode(String code) {
+        return shardKey == ShardKey.CODE_HASH ? Optional.of(shards.get(indexOf(code))) : Optional.empty();
+    }
+
+    public Optional<WarehouseShard> forCountry(String country) {
+        return shardKey == ShardKey.COUNTRY ? Optional.of(shards.get(indexOf(country))) : Optional.empty();
+    }
+
+    public UUID newIdFor(WarehouseShard shard) {
+        UUID id;
+        do {
+            id = UUID.randomUUID();
+        } while (indexOf(id) != shard.getIndex());
+        return id;
+    }
+
+    public <T> List<T> readAll(Function<WarehouseRepository, T> work) {
+        List<CompletableFuture<T>> futures = shards.stream()
+                .map(shard -> CompletableFuture.supplyAsync(() -> shard.read(work), executor))
+                .toList();
+        try {
+            return futures.stream().map(CompletableFuture::join).toList();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    public List<Warehouse> readList(Function<WarehouseRepository, List<Warehouse>> work) {
+        return readAll(work).stream()
+                .flatMap(List::stream)
+                .toList();
+    }
+
+    // Each shard returns its first offset + size rows in the requested order; the merged page is cut from those.
+    public Page<Warehouse> readPage(BiFunction<WarehouseRepository, Pageable, Page<Warehouse>> work,
+                                    Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            List<Warehouse> content = readAll(repository -> work.apply(repository, pageable)).stream()
+                    .flatMap(page -> page.getContent().stream())
+                    .sorted(SortComparators.forSort(Warehouse.class, pageable.getSort()))
+                    .toList();
+            return new PageImpl<>(content);
+        }
+
+        int window = (int) Math.min(pageable.getOffset() + pageable.getPageSize(), Integer.MAX_VALUE);
+        Pageable shardPageable = PageRequest.of(0, window, pageable.getSort());
+        List<Page<Warehouse>> pages = readAll(repository -> work.apply(repository, shardPageable));
+
+        long total = pages.stream().mapToLong(Page::getTotalElements).sum();
+        List<Warehouse> content = pages.stream()
+                .flatMap(page -> page.getContent().stream())
+                .sorted(SortComparators.forSort(Warehouse.class, pageable.getSort()))
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .toList();
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+        for (WarehouseShard shard : shards) {
+            try {
+                shard.close();
+            } catch (RuntimeException ex) {
+                log.warn("Failed to close {}: {}", shard, ex.getMessage());
+            }
+        }
+    }
+
+    private int indexOf(Object key) {
+        return Math.floorMod(key == null ? 0 : key.hashCode(), shards.size());
+    }
+}
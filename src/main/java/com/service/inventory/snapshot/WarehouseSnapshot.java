@@ -0,0 +1,287 @@
+package com.service.inventory.snapshot;
+
+import com.service.inventory.dto.WarehouseDto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Columnar copy of the warehouses table. City, state and country are dictionary-encoded with one bitmap
+ * of row slots per distinct value, so equality filters are bitmap lookups and LIKE filters only scan
+ * the (small) dictionaries. Not thread-safe; {@link WarehouseSnapshotStore} guards access.
+ */
+class WarehouseSnapshot {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final Map<UUID, Integer> slotById = new HashMap<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private int slotCount;
+
+    private UUID[] ids = new UUID[INITIAL_CAPACITY];
+    private String[] codes = new String[INITIAL_CAPACITY];
+    private String[] names = new String[INITIAL_CAPACITY];
+    private String[] addresses = new String[INITIAL_CAPACITY];
+    private String[] postalCodes = new String[INITIAL_CAPACITY];
+    private String[] phones = new String[INITIAL_CAPACITY];
+    private String[] emails = new String[INITIAL_CAPACITY];
+    private String[] managerNames = new String[INITIAL_CAPACITY];
+    private int[] cities = new int[INITIAL_CAPACITY];
+    private int[] states = new int[INITIAL_CAPACITY];
+    private int[] countries = new int[INITIAL_CAPACITY];
+    private LocalDateTime[] createdAt = new LocalDateTime[INITIAL_CAPACITY];
+    private LocalDateTime[] updatedAt = new LocalDateTime[INITIAL_CAPACITY];
+    private Long[] versions = new Long[INITIAL_CAPACITY];
+
+    private final Dictionary cityDictionary = new Dictionary();
+    private final Dictionary stateDictionary = new Dictionary();
+    private final Dictionary countryDictionary = new Dictionary();
+    private final BitSet live = new BitSet();
+    private final BitSet active = new BitSet();
+
+    int size() {
+        return slotById.size();
+    }
+
+    void upsert(WarehouseDto warehouse) {
+        Integer existing = slotById.get(warehouse.getId());
+        int slot;
+        if (existing != null) {
+            slot = existing;
+            if (isOlder(warehouse.getVersion(), versions[slot])) {
+                return;
+            }
+            clearIndexes(slot);
+        } else {
+            slot = allocateSlot();
+            slotById.put(warehouse.getId(), slot);
+        }
+
+        ids[slot] = warehouse.getId();
+        codes[slot] = warehouse.getCode();
+        names[slot] = warehouse.getName();
+        addresses[slot] = warehouse.getAddress();
+        postalCodes[slot] = warehouse.getPostalCode();
+        phones[slot] = warehouse.getPhone();
+        emails[slot] = warehouse.getEmail();
+        managerNames[slot] = warehouse.getManagerName();
+        createdAt[slot] = warehouse.getCreatedAt();
+        updatedAt[slot] = warehouse.getUpdatedAt();
+        versions[slot] = warehouse.getVersion();
+
+        cities[slot] = cityDictionary.add(warehouse.getCity(), slot);
+        states[slot] = stateDictionary.add(warehouse.getState(), slot);
+        countries[slot] = countryDictionary.add(warehouse.getCountry(), slot);
+        live.set(slot);
+        active.set(slot, Boolean.TRUE.equals(warehouse.getIsActive()));
+    }
+
+    void remove(UUID id) {
+        Integer slot = slotById.remove(id);
+        if (slot == null) {
+            return;
+        }
+        clearIndexes(slot);
+        ids[slot] = null;
+        freeSlots.push(slot);
+    }
+
+    BitSet active() {
+        return (BitSet) active.clone();
+    }
+
+    BitSet withCity(String city) {
+        return cityDictionary.rowsEqualTo(city);
+    }
+
+    BitSet withState(String state) {
+        return stateDictionary.rowsEqualTo(state);
+    }
+
+    BitSet withCountry(String country) {
+        return countryDictionary.rowsEqualTo(country);
+    }
+
+    // Mirrors WarehouseRepository.findWithFilters: case-insensitive LIKE '%value%' matches, null filters ignored.
+    BitSet matching(String code, String name, String city, String state, String country, Boolean isActive) {
+        BitSet rows = (BitSet) live.clone();
+        if (isActive != null) {
+            if (isActive) {
+                rows.and(active);
+            } else {
+                rows.andNot(active);
+            }
+        }
+        if (city != null) {
+            rows.and(cityDictionary.rowsMatching(containsLike(city)));
+        }
+        if (state != null) {
+            rows.and(stateDictionary.rowsMatching(containsLike(state)));
+        }
+        if (country != null) {
+            rows.and(countryDictionary.rowsMatching(containsLike(country)));
+        }
+        if (code != null) {
+            retainMatching(rows, codes, containsLike(code));
+        }
+        if (name != null) {
+            retainMatching(rows, names, containsLike(name));
+        }
+        return rows;
+    }
+
+    List<WarehouseDto> rows(BitSet slots) {
+        List<WarehouseDto> rows = new ArrayList<>(slots.cardinality());
+        for (int slot = slots.nextSetBit(0); slot >= 0; slot = slots.nextSetBit(slot + 1)) {
+            rows.add(row(slot));
+        }
+        return rows;
+    }
+
+    WarehouseDto row(int slot) {
+        return WarehouseDto.builder()
+                .id(ids[slot])
+                .code(codes[slot])
+                .name(names[slot])
+                .address(addresses[slot])
+                .city(cityDictionary.decode(cities[slot]))
+                .state(stateDictionary.decode(states[slot]))
+                .postalCode(postalCodes[slot])
+                .country(countryDictionary.decode(countries[slot]))
+                .phone(phones[slot])
+                .email(emails[slot])
+                .managerName(managerNames[slot])
+                .isActive(active.get(slot))
+                .createdAt(createdAt[slot])
+                .updatedAt(updatedAt[slot])
+                .version(versions[slot])
+                .build();
+    }
+
+    private void clearIndexes(int slot) {
+        cityDictionary.remove(cities[slot], slot);
+        stateDictionary.remove(states[slot], slot);
+        countryDictionary.remove(countries[slot], slot);
+        live.clear(slot);
+        active.clear(slot);
+    }
+
+    private int allocateSlot() {
+        if (!freeSlots.isEmpty()) {
+            return freeSlots.pop();
+        }
+        if (slotCount == ids.length) {
+            grow(ids.length * 2);
+        }
+        return slotCount++;
+    }
+
+    private void grow(int capacity) {
+        ids = Arrays.copyOf(ids, capacity);
+        codes = Arrays.copyOf(codes, capacity);
+        names = Arrays.copyOf(names, capacity);
+        addresses = Arrays.copyOf(addresses, capacity);
+        postalCodes = Arrays.copyOf(postalCodes, capacity);
+        phones = Arrays.copyOf(phones, capacity);
+        emails = Arrays.copyOf(emails, capacity);
+        managerNames = Arrays.copyOf(managerNames, capacity);
+        cities = Arrays.copyOf(cities, capacity);
+        states = Arrays.copyOf(states, capacity);
+        countries = Arrays.copyOf(countries, capacity);
+        createdAt = Arrays.copyOf(createdAt, capacity);
+        updatedAt = Arrays.copyOf(updatedAt, capacity);
+        versions = Arrays.copyOf(versions, capacity);
+    }
+
+    private static boolean isOlder(Long incoming, Long current) {
+        return incoming != null && current != null && incoming < current;
+    }
+
+    private static void retainMatching(BitSet rows, String[] column, Predicate<String> matches) {
+        for (int slot = rows.nextSetBit(0); slot >= 0; slot = rows.nextSetBit(slot + 1)) {
+            if (column[slot] == null || !matches.test(column[slot])) {
+                rows.clear(slot);
+            }
+        }
+    }
+
+    // LOWER(column) LIKE LOWER(CONCAT('%', value, '%')): '%' and '_' are wildcards and '\' escapes the next
+    // character, as in H2 and PostgreSQL. Plain values keep the cheap substring check.
+    private static Predicate<String> containsLike(String value) {
+        String needle = lower(value);
+        if (needle.indexOf('%') < 0 && needle.indexOf('_') < 0 && needle.indexOf('\\') < 0) {
+            return candidate -> lower(candidate).contains(needle);
+        }
+        StringBuilder regex = new StringBuilder();
+        for (int index = 0; index < needle.length(); index++) {
+            char character = needle.charAt(index);
+            if (character == '\\' && index + 1 < needle.length()) {
+                regex.append(Pattern.quote(String.valueOf(needle.charAt(++index))));
+            } else if (character == '%') {
+                regex.append(".*");
+            } else if (character == '_') {
+                regex.append('.');
+            } else {
+                regex.append(Pattern.quote(String.valueOf(character)));
+            }
+        }
+        Pattern pattern = Pattern.compile(regex.toString(), Pattern.DOTALL);
+        return candidate -> pattern.matcher(lower(candidate)).find();
+    }
+
+    private static String lower(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Dictionary {
+
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+        private final List<BitSet> rows = new ArrayList<>();
+
+        int add(String value, int slot) {
+            int code = codes.computeIfAbsent(value, key -> {
+                values.add(key);
+                rows.add(new BitSet());
+                return values.size() - 1;
+            });
+            rows.get(code).set(slot);
+            return code;
+        }
+
+        void remove(int code, int slot) {
+            rows.get(code).clear(slot);
+        }
+
+        String decode(int code) {
+            return values.get(code);
+        }
+
+        BitSet rowsEqualTo(String value) {
+            Integer code = codes.get(value);
+            return code == null ? new BitSet() : (BitSet) rows.get(code).clone();
+        }
+
+        BitSet rowsMatching(Predicate<String> matchesValue) {
+            BitSet matches = new BitSet();
+            for (int code = 0; code < values.size(); code++) {
+                String value = values.get(code);
+                if (value != null && matchesValue.test(value)) {
+                    matches.or(rows.get(code));
+                }
+            }
+            return matches;
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.service.inventory.snapshot;
+
+import com.service.inventory.config.SnapshotProperties;
+import com.service.inventory.dto.WarehouseDto;
+import com.service.inventory.event.WarehouseChangedEvent;
+import com.service.inventory.mapper.WarehouseMapper;
+import com.service.inventory.repository.WarehouseRepository;
+import com.service.inventory.util.SortComparators;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * Serves warehouse filter queries from an in-memory {@link WarehouseSnapshot}. Every {@code max-staleness}, committed
+ * writes of this instance are applied from their events and rows changed by other instances are fetched by
+ * {@code updated_at}. The whole table is reloaded every {@code full-refresh-interval}, which also drops rows that
+ * other instances hard-deleted.
+ */
+@Slf4j
+public class WarehouseSnapshotStore implements DisposableBean {
+
+    private final WarehouseRepository warehouseRepository;
+    private final WarehouseMapper warehouseMapper;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Queue<WarehouseChangedEvent> pendingChanges = new ConcurrentLinkedQueue<>();
+    private final ScheduledExecutorService refresher;
+    private final Duration pollOverlap;
+
+    private WarehouseSnapshot snapshot = new WarehouseSnapshot();
+    private volatile boolean ready;
+    // When the last poll (or reload) read the table. Guarded by this.
+    private LocalDateTime polledAt;
+
+    public WarehouseSnapshotStore(WarehouseRepository warehouseRepository, WarehouseMapper warehouseMapper,
+                                  SnapshotProperties properties) {
+        this.warehouseRepository = warehouseRepository;
+        this.warehouseMapper = warehouseMapper;
+        this.pollOverlap = properties.getPollOverlap();
+        this.refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "warehouse-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long fullRefreshMillis = properties.getFullRefreshInterval().toMillis();
+        long stalenessMillis = properties.getMaxStaleness().toMillis();
+        refresher.scheduleWithFixedDelay(() -> runSafely(this::reload), 0, fullRefreshMillis, TimeUnit.MILLISECONDS);
+        refresher.scheduleWithFixedDelay(() -> runSafely(this::applyPendingChanges),
+                stalenessMillis, stalenessMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWarehouseChanged(WarehouseChangedEvent event) {
+        pendingChanges.add(event);
+    }
+
+    // Changes queued before the reload started are already committed, so the fresh copy includes them.
+    public synchronized void reload() {
+        pendingChanges.clear();
+        polledAt = LocalDateTime.now();
+        WarehouseSnapshot fresh = new WarehouseSnapshot();
+        warehouseRepository.findAll().forEach(warehouse -> fresh.upsert(warehouseMapper.toDto(warehouse)));
+
+        lock.writeLock().lock();
+        try {
+            snapshot = fresh;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        ready = true;
+        log.info("Warehouse snapshot loaded with {} rows", fresh.size());
+    }
+
+    // Events are drained before the poll reads the table, so a polled row is never older than an event applied with
+    // it; the rows go in last.
+    public synchronized void applyPendingChanges() {
+        if (!ready) {
+            return;
+        }
+        List<WarehouseChangedEvent> changes = new ArrayList<>();
+        WarehouseChangedEvent change;
+        while ((change = pendingChanges.poll()) != null) {
+            changes.add(change);
+        }
+        LocalDateTime pollStarted = LocalDateTime.now();
+        List<WarehouseDto> polled = warehouseMapper.toDtoList(
+                warehouseRepository.findByUpdatedAtAfter(polledAt.minus(pollOverlap)));
+        polledAt = pollStarted;
+        if (changes.isEmpty() && polled.isEmpty()) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (WarehouseChangedEvent applied : changes) {
+                if (applied.isDeleted()) {
+                    snapshot.remove(applied.id());
+                } else {
+                    snapshot.upsert(applied.warehouse());
+                }
+            }
+            polled.forEach(snapshot::upsert);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<WarehouseDto> findActive() {
+        return read(current -> current.rows(current.active()));
+    }
+
+    public Page<WarehouseDto> findActive(Pageable pageable) {
+        return read(current -> page(current, current.active(), pageable));
+    }
+
+    public List<WarehouseDto> findByCity(String city) {
+        return read(current -> current.rows(current.withCity(city)));
+    }
+
+    public List<WarehouseDto> findByState(String state) {
+        return read(current -> current.rows(current.withState(state)));
+    }
+
+    public List<WarehouseDto> findByCountry(String country) {
+        return read(current -> current.rows(current.withCountry(country)));
+    }
+
+    public Page<WarehouseDto> search(String code, String name, String city, String state, String country,
+                                     Boolean isActive, Pageable pageable) {
+        return read(current -> page(current,
+                current.matching(code, name, city, state, country, isActive), pageable));
+    }
+
+    @Override
+    public void destroy() {
+        refresher.shutdownNow();
+    }
+
+    private <T> T read(Function<WarehouseSnapshot, T> query) {
+        lock.readLock().lock();
+        try {
+            return query.apply(snapshot);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Unsorted pages are cut from the bitmap before any row is materialized.
+    private static Page<WarehouseDto> page(WarehouseSnapshot current, BitSet slots, Pageable pageable) {
+        int total = slots.cardinality();
+        if (pageable.isUnpaged()) {
+            List<WarehouseDto> rows = current.rows(slots);
+            rows.sort(SortComparators.forSort(WarehouseDto.class, pageable.getSort()));
+            return new PageImpl<>(rows, pageable, total);
+        }
+
+        if (pageable.getSort().isUnsorted()) {
+            BitSet window = new BitSet();
+            long skipped = 0;
+            int taken = 0;
+            for (int slot = slots.nextSetBit(0); slot >= 0 && taken < pageable.getPageSize();
+                 slot = slots.nextSetBit(slot + 1)) {
+                if (skipped++ >= pageable.getOffset()) {
+                    window.set(slot);
+                    taken++;
+                }
+            }
+            return new PageImpl<>(current.rows(window), pageable, total);
+        }
+
+        List<WarehouseDto> content = current.rows(slots).stream()
+                .sorted(SortComparators.forSort(WarehouseDto.class, pageable.getSort()))
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .toList();
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    private static void runSafely(Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException ex) {
+            log.warn("Warehouse snapshot refresh failed: {}", ex.getMessage());
+        }
+    }
+}
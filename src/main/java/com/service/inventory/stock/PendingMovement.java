@@ -0,0 +1,8 @@
+package com.service.inventory.stock;
+
+import java.time.LocalDateTime;
+
+// A stock change accepted in memory but not yet written to the database.
+public record PendingMovement(long sequence, StockKey key, long quantityDelta, long reservedDelta,
+                              LocalDateTime createdAt) {
+}
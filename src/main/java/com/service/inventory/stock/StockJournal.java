@@ -0,0 +1,193 @@
+package com.service.inventory.stock;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Append-only, segmented log of stock movements that have not been flushed yet. Each line is
+ * {@code sequence,warehouseId,quantityDelta,reservedDelta,createdAt,sku}; the SKU goes last so it may contain commas.
+ * Not thread-safe; {@link StockJournalAppender} serializes appends, syncs and rotations.
+ */
+class StockJournal {
+
+    private static final String PREFIX = "stock-journal-";
+    private static final String SUFFIX = ".log";
+    private static final String DEAD_LETTERS = "stock-dead-letters.log";
+
+    private final Path directory;
+    private long segmentNumber;
+    private Path currentSegment;
+    private FileChannel channel;
+
+    StockJournal(Path directory) {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot create stock journal directory " + directory, ex);
+        }
+        this.segmentNumber = segments().stream()
+                .mapToLong(StockJournal::segmentNumber)
+                .max()
+                .orElse(0);
+    }
+
+    // A line without its trailing newline was torn by a crash mid-write and was never acknowledged.
+    List<PendingMovement> readAll() {
+        List<PendingMovement> movements = new ArrayList<>();
+        for (Path segment : segments()) {
+            String content;
+            try {
+                content = Files.readString(segment, StandardCharsets.UTF_8);
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Cannot read stock journal segment " + segment, ex);
+            }
+            int start = 0;
+            for (int end = content.indexOf('\n'); end >= 0; end = content.indexOf('\n', start)) {
+                movements.add(parse(content.substring(start, end)));
+                start = end + 1;
+            }
+        }
+        return movements;
+    }
+
+    List<Path> segments() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().startsWith(PREFIX))
+                    .sorted((left, right) -> Long.compare(segmentNumber(left), segmentNumber(right)))
+                    .toList();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot list stock journal directory " + directory, ex);
+        }
+    }
+
+    void append(PendingMovement movement) {
+        append(List.of(movement));
+    }
+
+    // Writes the whole batch with one buffer. A failed write abandons the segment, so a torn line can only ever be
+    // the last line of a segment.
+    void append(List<PendingMovement> movements) {
+        try {
+            if (channel == null) {
+                openNextSegment();
+            }
+            ByteBuffer buffer = format(movements);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException ex) {
+            abandonSegment();
+            throw new UncheckedIOException("Cannot append to stock journal " + currentSegment, ex);
+        }
+    }
+
+    void force() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.force(false);
+        } catch (IOException ex) {
+            abandonSegment();
+            throw new UncheckedIOException("Cannot sync stock journal segment " + currentSegment, ex);
+        }
+    }
+
+    // Movements the database keeps rejecting, kept in the same format outside the replayed segments for manual repair.
+    Path deadLetter(List<PendingMovement> movements) {
+        Path file = directory.resolve(DEAD_LETTERS);
+        try (FileChannel out = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = format(movements);
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+            out.force(false);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot append to stock dead letters " + file, ex);
+        }
+        return file;
+    }
+
+    // Seals the current segment; later appends go to a new one. Returns every sealed segment on disk.
+    List<Path> rotate() {
+        if (channel != null) {
+            try {
+                channel.force(false);
+                channel.close();
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Cannot seal stock journal segment " + currentSegment, ex);
+            }
+            channel = null;
+            currentSegment = null;
+        }
+        return segments();
+    }
+
+    void delete(List<Path> sealed) {
+        for (Path segment : sealed) {
+            try {
+                Files.deleteIfExists(segment);
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Cannot delete stock journal segment " + segment, ex);
+            }
+        }
+    }
+
+    void close() {
+        rotate();
+    }
+
+    private void abandonSegment() {
+        try {
+            if (channel != null) {
+                channel.close();
+            }
+        } catch (IOException ignored) {
+            // The segment is not written to again either way.
+        }
+        channel = null;
+    }
+
+    private void openNextSegment() throws IOException {
+        currentSegment = directory.resolve(String.format("%s%019d%s", PREFIX, ++segmentNumber, SUFFIX));
+        channel = FileChannel.open(currentSegment, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+    }
+
+    private static ByteBuffer format(List<PendingMovement> movements) {
+        StringBuilder lines = new StringBuilder(movements.size() * 96);
+        for (PendingMovement movement : movements) {
+            lines.append(movement.sequence()).append(',').append(movement.key().warehouseId()).append(',')
+                    .append(movement.quantityDelta()).append(',').append(movement.reservedDelta()).append(',')
+                    .append(movement.createdAt()).append(',').append(movement.key().sku()).append('\n');
+        }
+        return ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static long segmentNumber(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+
+    private static PendingMovement parse(String line) {
+        String[] fields = line.split(",", 6);
+        return new PendingMovement(
+                Long.parseLong(fields[0]),
+                new StockKey(UUID.fromString(fields[1]), fields[5]),
+                Long.parseLong(fields[2]),
+                Long.parseLong(fields[3]),
+                LocalDateTime.parse(fields[4]));
+    }
+}
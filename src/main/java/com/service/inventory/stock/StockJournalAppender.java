@@ -0,0 +1,168 @@
+package com.service.inventory.stock;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Group-fsync writer for the {@link StockJournal}. Movements are buffered per stripe, under the stripe's monitor and
+ * in the order they change their counter. A single appender thread drains every stripe, writes the batch with one
+ * write and one fsync, and then wakes the callers waiting on that epoch, so concurrent movements share one sync.
+ * A movement that is acknowledged is on disk together with every earlier movement of the same SKU.
+ */
+@Slf4j
+class StockJournalAppender {
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    static final class Stripe {
+
+        private final List<PendingMovement> buffer = new ArrayList<>();
+        private long epoch = 1;
+
+        // The caller holds this stripe's monitor. Returns the epoch whose fsync covers the movement.
+        long add(PendingMovement movement) {
+            buffer.add(movement);
+            return epoch;
+        }
+    }
+
+    private final StockJournal journal;
+    private final Consumer<List<PendingMovement>> onWritten;
+    private final Stripe[] stripes;
+    private final Thread appender;
+    private final Object durable = new Object();
+
+    private volatile boolean running = true;
+    private volatile long durableEpoch;
+    private volatile long lastFailedEpoch;
+    private long epoch = 1;
+
+    // onWritten receives each batch once it is in the journal, before the journal can be rotated past it.
+    StockJournalAppender(StockJournal journal, int stripeCount, Consumer<List<PendingMovement>> onWritten) {
+        this.journal = journal;
+        this.onWritten = onWritten;
+        this.stripes = new Stripe[stripeCount];
+        for (int index = 0; index < stripeCount; index++) {
+            stripes[index] = new Stripe();
+        }
+        this.appender = new Thread(this::run, "stock-journal-appender");
+        this.appender.setDaemon(true);
+        this.appender.start();
+    }
+
+    Stripe stripe(StockKey key) {
+        return stripes[Math.floorMod(key.hashCode(), stripes.length)];
+    }
+
+    // Returns false when the epoch could not be synced, so the caller has to make the movement durable another way.
+    boolean awaitDurable(long target) {
+        LockSupport.unpark(appender);
+        boolean interrupted = false;
+        try {
+            synchronized (durable) {
+                while (durableEpoch < target && appender.isAlive()) {
+                    try {
+                        durable.wait(100);
+                    } catch (InterruptedException ex) {
+                        interrupted = true;
+                    }
+                }
+                if (!appender.isAlive()) {
+                    drainUnsynced();
+                    return false;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return lastFailedEpoch < target;
+    }
+
+    // Seals the current segment and returns every sealed segment; all their movements have been handed to onWritten.
+    List<Path> rotate() {
+        synchronized (journal) {
+            return journal.rotate();
+        }
+    }
+
+    void close() {
+        running = false;
+        LockSupport.unpark(appender);
+        try {
+            appender.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (durable) {
+            drainUnsynced();
+        }
+    }
+
+    private void run() {
+        while (running) {
+            if (!writeNextBatch()) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+        }
+        writeNextBatch();
+    }
+
+    // Returns whether anything was written.
+    private boolean writeNextBatch() {
+        List<PendingMovement> batch = drain(epoch + 1);
+        boolean failed = false;
+        if (!batch.isEmpty()) {
+            synchronized (journal) {
+                try {
+                    journal.append(batch);
+                    journal.force();
+                } catch (Throwable ex) {
+                    failed = true;
+                    log.error("Stock journal write of {} movements failed, flushing them to the database instead: {}",
+                            batch.size(), ex.toString());
+                }
+                onWritten.accept(batch);
+            }
+        }
+        synchronized (durable) {
+            if (failed) {
+                lastFailedEpoch = epoch;
+            }
+            durableEpoch = epoch++;
+            durable.notifyAll();
+        }
+        return !batch.isEmpty();
+    }
+
+    // Hands over anything buffered once the appender is gone; callers then fall back to a database flush. The caller
+    // holds the durable monitor.
+    private void drainUnsynced() {
+        List<PendingMovement> batch = drain(Long.MAX_VALUE);
+        if (!batch.isEmpty()) {
+            onWritten.accept(batch);
+        }
+        lastFailedEpoch = Long.MAX_VALUE;
+        durableEpoch = Long.MAX_VALUE;
+        durable.notifyAll();
+    }
+
+    private List<PendingMovement> drain(long nextEpoch) {
+        List<PendingMovement> batch = new ArrayList<>();
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                batch.addAll(stripe.buffer);
+                stripe.buffer.clear();
+                stripe.epoch = nextEpoch;
+            }
+        }
+        return batch;
+    }
+}
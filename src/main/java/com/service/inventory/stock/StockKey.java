@@ -0,0 +1,6 @@
+package com.service.inventory.stock;
+
+import java.util.UUID;
+
+public record StockKey(UUID warehouseId, String sku) {
+}
@@ -0,0 +1,414 @@
+package com.service.inventory.stock;
+
+import com.service.inventory.config.StockProperties;
+import com.service.inventory.entity.StockLevel;
+import com.service.inventory.exception.InsufficientStockException;
+import com.service.inventory.repository.StockLevelRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.NonTransientDataAccessException;
+import org.springframework.dao.NonTransientDataAccessResourceException;
+import org.springframework.dao.UncategorizedDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+/**
+ * In-memory authority for stock levels with write-behind persistence. Accepted movements are queued and written to
+ * the database in batched transactions every {@code inventory.stock.flush-interval}.
+ * <p>
+ * Every movement is first made durable in the local journal ({@code inventory.stock.journal-directory}), which is
+ * replayed on startup: it is buffered under its stripe's monitor before the new level is published, and the call
+ * returns only after the group fsync covering it.
+ * <p>
+ * Assumes this instance is the only writer of stock levels.
+ */
+@Component
+@Slf4j
+public class StockLedger implements DisposableBean, MeterBinder {
+
+    private static final String INSERT_MOVEMENT = "INSERT INTO stock_movements "
+            + "(sequence, warehouse_id, sku, quantity_delta, reserved_delta, created_at) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_LEVEL = "UPDATE stock_levels "
+            + "SET quantity = quantity + ?, reserved = reserved + ?, updated_at = ? WHERE warehouse_id = ? AND sku = ?";
+    private static final String INSERT_LEVEL = "INSERT INTO stock_levels "
+            + "(warehouse_id, sku, quantity, reserved, updated_at) VALUES (?, ?, ?, ?, ?)";
+    private static final int JOURNAL_STRIPES = 64;
+
+    private final StockLevelRepository stockLevelRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final StockJournal journal;
+    private final StockJournalAppender appender;
+    private final Map<StockKey, AtomicReference<StockLevels>> counters = new ConcurrentHashMap<>();
+    private final Queue<PendingMovement> pending = new ConcurrentLinkedQueue<>();
+    private final Set<UUID> evictions = ConcurrentHashMap.newKeySet();
+    // Journal segments covered by the batch being flushed, kept until it commits. Guarded by this.
+    private final List<Path> sealedSegments = new ArrayList<>();
+    private final AtomicLong sequence;
+    private final AtomicLong deadLettered = new AtomicLong();
+    private final int maxFlushAttempts;
+    private final ScheduledExecutorService flusher;
+    private volatile int failedFlushes;
+
+    public StockLedger(StockProperties properties, StockLevelRepository stockLevelRepository,
+                       JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.stockLevelRepository = stockLevelRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        // Flushes can be triggered from inside another transaction, or after one has completed; they always commit
+        // on their own.
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.maxFlushAttempts = Math.max(1, properties.getMaxFlushAttempts());
+
+        Long lastFlushed = jdbcTemplate.queryForObject("SELECT MAX(sequence) FROM stock_movements", Long.class);
+        this.sequence = new AtomicLong(lastFlushed == null ? 0 : lastFlushed);
+
+        if (properties.getJournalDirectory() == null) {
+            throw new IllegalStateException("inventory.stock.journal-directory must be set; acknowledged stock "
+                    + "movements are only durable once journaled");
+        }
+        this.journal = new StockJournal(properties.getJournalDirectory());
+        this.appender = new StockJournalAppender(journal, JOURNAL_STRIPES, pending::addAll);
+        recover();
+
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "stock-ledger-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = properties.getFlushInterval().toMillis();
+        flusher.scheduleWithFixedDelay(this::flushSafely, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public StockLevels get(UUID warehouseId, String sku) {
+        return counter(new StockKey(warehouseId, sku)).get();
+    }
+
+    public boolean isTracked(UUID warehouseId, String sku) {
+        return counters.containsKey(new StockKey(warehouseId, sku));
+    }
+
+    // Drops the counters of a deleted or deactivated warehouse once a flush has written all of its movements, so a
+    // later reload from the database includes them. Cheap enough to call from an after-commit listener.
+    public void evictWarehouse(UUID warehouseId) {
+        evictions.add(warehouseId);
+    }
+
+    public StockLevels increment(UUID warehouseId, String sku, long quantity) {
+        return apply(new StockKey(warehouseId, sku), levels -> {
+            try {
+                return new StockLevels(Math.addExact(levels.quantity(), quantity), levels.reserved());
+            } catch (ArithmeticException ex) {
+                throw new IllegalArgumentException("Incrementing SKU '" + sku + "' by " + quantity
+                        + " would overflow its quantity of " + levels.quantity());
+            }
+        });
+    }
+
+    public StockLevels decrement(UUID warehouseId, String sku, long quantity) {
+        return apply(new StockKey(warehouseId, sku), levels -> {
+            requireAvailable(levels, quantity, sku);
+            return new StockLevels(levels.quantity() - quantity, levels.reserved());
+        });
+    }
+
+    public StockLevels reserve(UUID warehouseId, String sku, long quantity) {
+        return apply(new StockKey(warehouseId, sku), levels -> {
+            requireAvailable(levels, quantity, sku);
+            return new StockLevels(levels.quantity(), levels.reserved() + quantity);
+        });
+    }
+
+    public StockLevels release(UUID warehouseId, String sku, long quantity) {
+        return apply(new StockKey(warehouseId, sku), levels -> {
+            if (levels.reserved() < quantity) {
+                throw new InsufficientStockException("Only " + levels.reserved() + " units of SKU '" + sku
+                        + "' are reserved, cannot release " + quantity);
+            }
+            return new StockLevels(levels.quantity(), levels.reserved() - quantity);
+        });
+    }
+
+    // Movements are drained after the journal rotates, so every sealed segment is covered by this batch. While a
+    // batch keeps failing, its segments stay sealed and newer movements go on in the open one, so an outage does not
+    // add a segment per attempt.
+    public synchronized void flush() {
+        if (sealedSegments.isEmpty()) {
+            sealedSegments.addAll(appender.rotate());
+        }
+
+        List<PendingMovement> batch = new ArrayList<>();
+        PendingMovement movement;
+        while ((movement = pending.poll()) != null) {
+            batch.add(movement);
+        }
+
+        if (!batch.isEmpty()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> write(batch));
+            } catch (RuntimeException ex) {
+                List<PendingMovement> retained = ++failedFlushes < maxFlushAttempts ? batch : flushPerSku(batch);
+                if (!retained.isEmpty()) {
+                    pending.addAll(retained);
+                    throw ex;
+                }
+            }
+            failedFlushes = 0;
+            log.debug("Flushed {} stock movements", batch.size());
+        }
+        journal.delete(sealedSegments);
+        sealedSegments.clear();
+        evictFlushedWarehouses();
+    }
+
+    public long deadLetteredMovements() {
+        return deadLettered.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("inventory.stock.pending", pending, Queue::size)
+                .description("Stock movements accepted in memory but not yet written to the database")
+                .register(registry);
+        Gauge.builder("inventory.stock.flush.failures", this, ledger -> ledger.failedFlushes)
+                .description("Consecutive failed stock flushes")
+                .register(registry);
+        FunctionCounter.builder("inventory.stock.dead.letters", deadLettered, AtomicLong::get)
+                .description("Stock movements the database rejected and that were set aside")
+                .register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        appender.close();
+        flush();
+        synchronized (journal) {
+            journal.close();
+        }
+    }
+
+    // Buffering and publishing under the stripe monitor keeps the journal in counter order, so a crash can never
+    // keep a movement while losing one it was computed from.
+    private StockLevels apply(StockKey key, UnaryOperator<StockLevels> change) {
+        AtomicReference<StockLevels> counter = counter(key);
+        StockJournalAppender.Stripe stripe = appender.stripe(key);
+        StockLevels after;
+        long epoch;
+        synchronized (stripe) {
+            StockLevels before = counter.get();
+            after = change.apply(before);
+            epoch = stripe.add(movement(key, before, after));
+            counter.set(after);
+        }
+        if (!appender.awaitDurable(epoch)) {
+            try {
+                flush();
+            } catch (RuntimeException ex) {
+                // The movement is applied and queued, so it is accepted; failing the call would make a client retry
+                // apply it twice. The next successful flush writes it.
+                log.error("Stock movement of SKU '{}' in warehouse {} could be neither journaled nor flushed, it is "
+                        + "lost if the service stops before the database is back: {}",
+                        key.sku(), key.warehouseId(), ex.getMessage());
+            }
+        }
+        return after;
+    }
+
+    // Retries a repeatedly failing batch one SKU at a time. Movements the database rejects are dead-lettered; those
+    // that fail for any other reason (a lost connection, a lock timeout) are returned to stay pending.
+    private List<PendingMovement> flushPerSku(List<PendingMovement> batch) {
+        Map<StockKey, List<PendingMovement>> bySku = new LinkedHashMap<>();
+        batch.forEach(movement -> bySku.computeIfAbsent(movement.key(), key -> new ArrayList<>()).add(movement));
+
+        List<PendingMovement> retained = new ArrayList<>();
+        for (List<PendingMovement> movements : bySku.values()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> write(movements));
+            } catch (RuntimeException ex) {
+                if (isRejected(ex)) {
+                    deadLetter(movements, ex);
+                } else {
+                    retained.addAll(movements);
+                }
+            }
+        }
+        if (!retained.isEmpty()) {
+            log.error("Stock flush has failed {} times in a row, {} movements are waiting for the database",
+                    failedFlushes, retained.size());
+        }
+        return retained;
+    }
+
+    // Constraint violations and other permanent errors about the rows themselves. Failures to reach the database and
+    // errors the driver did not categorize (H2 reports lock timeouts that way) are not the rows' fault.
+    private static boolean isRejected(RuntimeException ex) {
+        return ex instanceof NonTransientDataAccessException
+                && !(ex instanceof DataAccessResourceFailureException)
+                && !(ex instanceof NonTransientDataAccessResourceException)
+                && !(ex instanceof UncategorizedDataAccessException);
+    }
+
+    private void deadLetter(List<PendingMovement> movements, RuntimeException cause) {
+        deadLettered.addAndGet(movements.size());
+        StockKey key = movements.get(0).key();
+        log.error("Database rejected {} stock movements of SKU '{}' in warehouse {}, moved to {}: {}",
+                movements.size(), key.sku(), key.warehouseId(), journal.deadLetter(movements), cause.getMessage());
+        withdraw(key, movements);
+    }
+
+    // Takes dead-lettered movements back out of their counter, so it again equals the database plus what is pending.
+    private void withdraw(StockKey key, List<PendingMovement> movements) {
+        AtomicReference<StockLevels> counter = counters.get(key);
+        if (counter == null) {
+            return;
+        }
+        long quantity = movements.stream().mapToLong(PendingMovement::quantityDelta).sum();
+        long reserved = movements.stream().mapToLong(PendingMovement::reservedDelta).sum();
+        synchronized (appender.stripe(key)) {
+            StockLevels levels = counter.get();
+            counter.set(new StockLevels(levels.quantity() - quantity, levels.reserved() - reserved));
+        }
+    }
+
+    // A warehouse with movements queued since this flush started is evicted by a later one.
+    private void evictFlushedWarehouses() {
+        for (UUID warehouseId : evictions) {
+            if (pending.stream().noneMatch(movement -> movement.key().warehouseId().equals(warehouseId))) {
+                evictions.remove(warehouseId);
+                counters.keySet().removeIf(key -> key.warehouseId().equals(warehouseId));
+            }
+        }
+    }
+
+    private PendingMovement movement(StockKey key, StockLevels before, StockLevels after) {
+        return new PendingMovement(sequence.incrementAndGet(), key, after.quantity() - before.quantity(),
+                after.reserved() - before.reserved(), LocalDateTime.now());
+    }
+
+    // Loaded outside the map so the database read never holds a ConcurrentHashMap bin lock; a racing load loses.
+    private AtomicReference<StockLevels> counter(StockKey key) {
+        AtomicReference<StockLevels> counter = counters.get(key);
+        if (counter != null) {
+            return counter;
+        }
+        AtomicReference<StockLevels> loaded = new AtomicReference<>(
+                stockLevelRepository.findById(new StockLevel.Key(key.warehouseId(), key.sku()))
+                        .map(level -> new StockLevels(level.getQuantity(), level.getReserved()))
+                        .orElse(StockLevels.EMPTY));
+        AtomicReference<StockLevels> raced = counters.putIfAbsent(key, loaded);
+        return raced != null ? raced : loaded;
+    }
+
+    private void write(List<PendingMovement> batch) {
+        jdbcTemplate.batchUpdate(INSERT_MOVEMENT, batch, batch.size(), (statement, movement) -> {
+            statement.setLong(1, movement.sequence());
+            statement.setObject(2, movement.key().warehouseId());
+            statement.setString(3, movement.key().sku());
+            statement.setLong(4, movement.quantityDelta());
+            statement.setLong(5, movement.reservedDelta());
+            statement.setTimestamp(6, Timestamp.valueOf(movement.createdAt()));
+        });
+
+        Map<StockKey, long[]> deltas = new LinkedHashMap<>();
+        for (PendingMovement movement : batch) {
+            long[] delta = deltas.computeIfAbsent(movement.key(), key -> new long[2]);
+            delta[0] += movement.quantityDelta();
+            delta[1] += movement.reservedDelta();
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Map.Entry<StockKey, long[]>> entries = new ArrayList<>(deltas.entrySet());
+        int[][] updated = jdbcTemplate.batchUpdate(UPDATE_LEVEL, entries, entries.size(), (statement, entry) -> {
+            statement.setLong(1, entry.getValue()[0]);
+            statement.setLong(2, entry.getValue()[1]);
+            statement.setTimestamp(3, now);
+            statement.setObject(4, entry.getKey().warehouseId());
+            statement.setString(5, entry.getKey().sku());
+        });
+
+        List<Map.Entry<StockKey, long[]>> missing = new ArrayList<>();
+        for (int index = 0; index < entries.size(); index++) {
+            if (updated[0][index] == 0) {
+                missing.add(entries.get(index));
+            }
+        }
+        if (!missing.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_LEVEL, missing, missing.size(), (statement, entry) -> {
+                statement.setObject(1, entry.getKey().warehouseId());
+                statement.setString(2, entry.getKey().sku());
+                statement.setLong(3, entry.getValue()[0]);
+                statement.setLong(4, entry.getValue()[1]);
+                statement.setTimestamp(5, now);
+            });
+        }
+    }
+
+    // Replays journaled movements that never reached the database, before any counter is loaded.
+    private void recover() {
+        List<PendingMovement> journaled = journal.readAll();
+        if (journaled.isEmpty()) {
+            journal.delete(journal.segments());
+            return;
+        }
+
+        long first = journaled.stream().mapToLong(PendingMovement::sequence).min().orElseThrow();
+        Set<Long> flushed = new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT sequence FROM stock_movements WHERE sequence >= ?", Long.class, first));
+        journaled.stream()
+                .filter(movement -> !flushed.contains(movement.sequence()))
+                .forEach(pending::add);
+        journaled.forEach(movement -> sequence.accumulateAndGet(movement.sequence(), Math::max));
+
+        log.info("Recovering {} unflushed stock movements from {}", pending.size(), journal.segments());
+        flush();
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException ex) {
+            log.warn("Stock ledger flush failed, will retry: {}", ex.getMessage());
+        }
+    }
+
+    private static void requireAvailable(StockLevels levels, long quantity, String sku) {
+        if (levels.available() < quantity) {
+            throw new InsufficientStockException("Only " + levels.available() + " units of SKU '" + sku
+                    + "' are available, requested " + quantity);
+        }
+    }
+}
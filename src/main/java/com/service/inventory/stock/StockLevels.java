@@ -0,0 +1,10 @@
+package com.service.inventory.stock;
+
+public record StockLevels(long quantity, long reserved) {
+
+    public static final StockLevels EMPTY = new StockLevels(0, 0);
+
+    public long available() {
+        return quantity - reserved;
+    }
+}
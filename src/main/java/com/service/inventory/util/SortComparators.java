@@ -0,0 +1,77 @@
+package com.service.inventory.util;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PropertyPath;
+import org.springframework.util.ReflectionUtils;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * In-memory equivalent of a Spring Data {@link Sort}, for rows merged or filtered outside the database. It follows
+ * H2, the database this service runs on by default: NULLs are the smallest value unless the order says otherwise,
+ * strings compare by UTF-16 code unit (H2 has no collation by default), ignore-case orders compare the LOWER() of
+ * strings, and UUIDs compare as unsigned 128-bit values.
+ * <p>
+ * PostgreSQL treats NULLs as the largest value and compares strings with the database collation, so on PostgreSQL
+ * these orders can differ from the database's for NULLs and for strings that are not plain ASCII.
+ */
+public final class SortComparators {
+
+    private SortComparators() {
+    }
+
+    // Properties are resolved once per sort; an unknown one fails with the PropertyReferenceException that the
+    // repositories throw for the same Sort.
+    public static <T> Comparator<T> forSort(Class<T> type, Sort sort) {
+        Comparator<T> comparator = (left, right) -> 0;
+        for (Sort.Order order : sort) {
+            Comparator<Object> values = order.isIgnoreCase()
+                    ? SortComparators::compareIgnoringCase
+                    : SortComparators::compareValues;
+            if (order.isDescending()) {
+                values = values.reversed();
+            }
+            values = switch (order.getNullHandling()) {
+                case NULLS_FIRST -> Comparator.nullsFirst(values);
+                case NULLS_LAST -> Comparator.nullsLast(values);
+                case NATIVE -> order.isDescending() ? Comparator.nullsLast(values) : Comparator.nullsFirst(values);
+            };
+            comparator = comparator.thenComparing(accessor(type, order.getProperty()), values);
+        }
+        return comparator;
+    }
+
+    private static <T> Function<T, Object> accessor(Class<T> type, String property) {
+        PropertyPath path = PropertyPath.from(property, type);
+        PropertyDescriptor descriptor = BeanUtils.getPropertyDescriptor(type, path.getSegment());
+        if (path.hasNext() || descriptor == null || descriptor.getReadMethod() == null) {
+            throw new IllegalArgumentException("Cannot sort " + type.getSimpleName() + " by '" + property + "'");
+        }
+        Method getter = descriptor.getReadMethod();
+        ReflectionUtils.makeAccessible(getter);
+        return bean -> ReflectionUtils.invokeMethod(getter, bean);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compareValues(Object left, Object right) {
+        if (left instanceof UUID leftId && right instanceof UUID rightId) {
+            int high = Long.compareUnsigned(leftId.getMostSignificantBits(), rightId.getMostSignificantBits());
+            return high != 0 ? high
+                    : Long.compareUnsigned(leftId.getLeastSignificantBits(), rightId.getLeastSignificantBits());
+        }
+        return ((Comparable) left).compareTo(right);
+    }
+
+    private static int compareIgnoringCase(Object left, Object right) {
+        if (left instanceof String leftText && right instanceof String rightText) {
+            return leftText.toLowerCase(Locale.ROOT).compareTo(rightText.toLowerCase(Locale.ROOT));
+        }
+        return compareValues(left, right);
+    }
+}
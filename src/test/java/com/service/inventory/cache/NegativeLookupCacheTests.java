@@ -0,0 +1,40 @@
+package com.service.inventory.cache;
+
+import com.service.inventory.config.NotFoundProperties;
+import com.service.inventory.dto.WarehouseDto;
+import com.service.inventory.event.WarehouseChangedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NegativeLookupCacheTests {
+
+    private final NegativeLookupCache cache = new NegativeLookupCache(new NotFoundProperties());
+
+    @Test
+    void remembersMisses() {
+        UUID id = UUID.randomUUID();
+        cache.rememberMissingId(id, cache.generation());
+        cache.rememberMissingCode("WH-NONE", cache.generation());
+
+        assertThat(cache.isMissingId(id)).isTrue();
+        assertThat(cache.isMissingCode("WH-NONE")).isTrue();
+    }
+
+    @Test
+    void doesNotRememberMissesThatRacedAWrite() {
+        UUID id = UUID.randomUUID();
+        long generation = cache.generation();
+
+        // The warehouse is created and its event handled while the lookup that missed it is still in flight.
+        cache.onWarehouseChanged(WarehouseChangedEvent.saved(
+                WarehouseDto.builder().id(id).code("WH-NEW").name("New").isActive(true).build()));
+        cache.rememberMissingId(id, generation);
+        cache.rememberMissingCode("WH-NEW", generation);
+
+        assertThat(cache.isMissingId(id)).isFalse();
+        assertThat(cache.isMissingCode("WH-NEW")).isFalse();
+    }
+}
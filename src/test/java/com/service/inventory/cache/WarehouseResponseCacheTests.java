@@ -0,0 +1,154 @@
+package com.service.inventory.cache;
+
+import com.service.inventory.entity.Warehouse;
+import com.service.inventory.repository.WarehouseRepository;
+import com.service.inventory.support.StatementBudget;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "inventory.response-cache.enabled=true",
+        "inventory.response-cache.gzip-min-size=0",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+})
+@AutoConfigureMockMvc
+class WarehouseResponseCacheTests {
+
+    private static final String BASE_URL = "/api/v1/warehouses";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private WarehouseRepository warehouseRepository;
+
+    @Autowired
+    private WarehouseResponseCache warehouseResponseCache;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        warehouseRepository.save(warehouse("WH-CMB", "Colombo", "Western", true));
+        warehouseRepository.save(warehouse("WH-NUW", "Nuwara Eliya", "Central", true));
+        warehouseRepository.save(warehouse("WH-KDY", "Kandy", "Central", false));
+        warehouseResponseCache.invalidateAll();
+        statistics = StatementBudget.statistics(entityManagerFactory);
+    }
+
+    @AfterEach
+    void tearDown() {
+        warehouseRepository.deleteAll();
+        warehouseResponseCache.invalidateAll();
+    }
+
+    @Test
+    void repeatedRequestsAreServedWithoutQueries() throws Exception {
+        String first = mockMvc.perform(get(BASE_URL + "/active"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andReturn().getResponse().getContentAsString();
+        mockMvc.perform(get(BASE_URL + "/by-city/{city}", "Nuwara Eliya"))
+                .andExpect(jsonPath("$[0].code").value("WH-NUW"));
+
+        statistics.clear();
+        mockMvc.perform(get(BASE_URL + "/active"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().string(first));
+        mockMvc.perform(get(BASE_URL + "/by-city/{city}", "Nuwara Eliya"))
+                .andExpect(jsonPath("$[0].code").value("WH-NUW"));
+        StatementBudget.of(0, 0, 0).assertWithin(statistics, "cached list responses");
+    }
+
+    @Test
+    void servesGzipBodyWhenAccepted() throws Exception {
+        String plain = mockMvc.perform(get(BASE_URL + "/by-state/{state}", "Central"))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andReturn().getResponse().getContentAsString();
+
+        MvcResult compressed = mockMvc.perform(get(BASE_URL + "/by-state/{state}", "Central")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "br, gzip;q=0.8"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andReturn();
+
+        assertThat(gunzip(compressed.getResponse().getContentAsByteArray())).isEqualTo(plain);
+    }
+
+    @Test
+    void staleBodyIsServedWhileWriteIsRevalidated() throws Exception {
+        mockMvc.perform(get(BASE_URL + "/by-country/{country}", "LK")).andExpect(jsonPath("$.length()").value(3));
+
+        mockMvc.perform(post(BASE_URL).contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"code": "WH-GAL", "name": "Galle", "city": "Galle", "country": "LK", "isActive": true}
+                                """))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get(BASE_URL + "/by-country/{country}", "LK")).andExpect(jsonPath("$.length()").value(3));
+
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        String body;
+        do {
+            Thread.sleep(20);
+            body = mockMvc.perform(get(BASE_URL + "/by-country/{country}", "LK"))
+                    .andReturn().getResponse().getContentAsString();
+        } while (!body.contains("WH-GAL") && System.nanoTime() < deadline);
+        assertThat(body).contains("WH-GAL");
+    }
+
+    @Test
+    void otherEndpointsAreNotCached() throws Exception {
+        mockMvc.perform(get(BASE_URL + "/active/pageable"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2));
+        mockMvc.perform(get(BASE_URL + "/active").accept(MediaType.APPLICATION_XML))
+                .andExpect(status().isNotAcceptable());
+    }
+
+    private static String gunzip(byte[] compressed) throws IOException {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static Warehouse warehouse(String code, String city, String state, boolean active) {
+        return Warehouse.builder()
+                .code(code)
+                .name(city + " Warehouse")
+                .city(city)
+                .state(state)
+                .country("LK")
+                .isActive(active)
+                .build();
+    }
+}
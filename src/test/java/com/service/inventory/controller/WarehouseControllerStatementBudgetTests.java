@@ -0,0 +1,183 @@
+package com.service.inventory.controller;
+
+import com.service.inventory.entity.Warehouse;
+import com.service.inventory.repository.WarehouseRepository;
+import com.service.inventory.support.StatementBudget;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+})
+@AutoConfigureMockMvc
+class WarehouseControllerStatementBudgetTests {
+
+    private static final String BASE_URL = "/api/v1/warehouses";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private WarehouseRepository warehouseRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Warehouse colombo;
+
+    @BeforeEach
+    void setUp() {
+        colombo = warehouseRepository.save(warehouse("WH-CMB", "Colombo", "Western", "LK", true));
+        warehouseRepository.save(warehouse("WH-KDY", "Kandy", "Central", "LK", true));
+        warehouseRepository.save(warehouse("WH-BER", "Berlin", "Berlin", "DE", false));
+        statistics = StatementBudget.statistics(entityManagerFactory);
+    }
+
+    @AfterEach
+    void tearDown() {
+        warehouseRepository.deleteAll();
+    }
+
+    @Test
+    void createWarehouse() throws Exception {
+        String body = """
+                {"code": "WH-GAL", "name": "Galle", "city": "Galle", "country": "LK", "isActive": true}
+                """;
+        assertBudget(StatementBudget.of(2, 1, 0), "createWarehouse",
+                post(BASE_URL).contentType(MediaType.APPLICATION_JSON).content(body), status().isCreated());
+    }
+
+    @Test
+    void getWarehouseById() throws Exception {
+        assertBudget(StatementBudget.of(1, 0, 1), "getWarehouseById",
+                get(BASE_URL + "/{id}", colombo.getId()), status().isOk());
+    }
+
+    @Test
+    void getWarehouseByIdNotFound() throws Exception {
+        assertBudget(StatementBudget.of(1, 0, 0), "getWarehouseById (miss)",
+                get(BASE_URL + "/{id}", UUID.randomUUID()), status().isNotFound());
+    }
+
+    @Test
+    void repeatedMissIsServedFromNegativeCache() throws Exception {
+        UUID missingId = UUID.randomUUID();
+        mockMvc.perform(get(BASE_URL + "/{id}", missingId)).andExpect(status().isNotFound());
+        mockMvc.perform(get(BASE_URL + "/code/{code}", "WH-NEW")).andExpect(status().isNotFound());
+
+        assertBudget(StatementBudget.of(0, 0, 0), "getWarehouseById (cached miss)",
+                get(BASE_URL + "/{id}", missingId), status().isNotFound());
+        assertBudget(StatementBudget.of(0, 0, 0), "getWarehouseByCode (cached miss)",
+                get(BASE_URL + "/code/{code}", "WH-NEW"), status().isNotFound());
+
+        mockMvc.perform(post(BASE_URL).contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"code": "WH-NEW", "name": "New", "isActive": true}
+                                """))
+                .andExpect(status().isCreated());
+        mockMvc.perform(get(BASE_URL + "/code/{code}", "WH-NEW")).andExpect(status().isOk());
+    }
+
+    @Test
+    void getWarehouseByCode() throws Exception {
+        assertBudget(StatementBudget.of(1, 0, 1), "getWarehouseByCode",
+                get(BASE_URL + "/code/{code}", "WH-CMB"), status().isOk());
+    }
+
+    @Test
+    void getAllWarehouses() throws Exception {
+        assertBudget(StatementBudget.of(2, 0, 2), "getAllWarehouses",
+                get(BASE_URL).param("size", "2"), status().isOk());
+    }
+
+    @Test
+    void getActiveWarehouses() throws Exception {
+        assertBudget(StatementBudget.of(1, 0, 2), "getActiveWarehouses",
+                get(BASE_URL + "/active"), status().isOk());
+    }
+
+    @Test
+    void getActiveWarehousesPageable() throws Exception {
+        assertBudget(StatementBudget.of(2, 0, 1), "getActiveWarehouses (pageable)",
+                get(BASE_URL + "/active/pageable").param("size", "1"), status().isOk());
+    }
+
+    @Test
+    void updateWarehouse() throws Exception {
+        String body = """
+                {"code": "WH-CMB", "name": "Colombo Port", "isActive": true}
+                """;
+        assertBudget(StatementBudget.of(2, 1, 1), "updateWarehouse",
+                put(BASE_URL + "/{id}", colombo.getId()).contentType(MediaType.APPLICATION_JSON).content(body),
+                status().isOk());
+    }
+
+    @Test
+    void deleteWarehouse() throws Exception {
+        assertBudget(StatementBudget.of(2, 1, 1), "deleteWarehouse",
+                delete(BASE_URL + "/{id}", colombo.getId()), status().isNoContent());
+    }
+
+    @Test
+    void softDeleteWarehouse() throws Exception {
+        assertBudget(StatementBudget.of(2, 1, 1), "softDeleteWarehouse",
+                patch(BASE_URL + "/{id}/soft-delete", colombo.getId()), status().isNoContent());
+    }
+
+    @Test
+    void searchWarehouses() throws Exception {
+        assertBudget(StatementBudget.of(2, 0, 2), "searchWarehouses",
+                get(BASE_URL + "/search").param("country", "LK").param("size", "1"), status().isOk());
+    }
+
+    @Test
+    void getWarehousesByLocation() throws Exception {
+        assertBudget(StatementBudget.of(1, 0, 1), "getWarehousesByCity",
+                get(BASE_URL + "/by-city/{city}", "Kandy"), status().isOk());
+        assertBudget(StatementBudget.of(1, 0, 1), "getWarehousesByState",
+                get(BASE_URL + "/by-state/{state}", "Western"), status().isOk());
+        assertBudget(StatementBudget.of(1, 0, 2), "getWarehousesByCountry",
+                get(BASE_URL + "/by-country/{country}", "LK"), status().isOk());
+    }
+
+    @Test
+    void existsByCode() throws Exception {
+        assertBudget(StatementBudget.of(1, 0, 0), "existsByCode",
+                get(BASE_URL + "/exists/{code}", "WH-CMB"), status().isOk());
+    }
+
+    private void assertBudget(StatementBudget budget, String operation,
+                              RequestBuilder request, ResultMatcher expectedStatus) throws Exception {
+        statistics.clear();
+        mockMvc.perform(request).andExpect(expectedStatus);
+        budget.assertWithin(statistics, operation);
+    }
+
+    private static Warehouse warehouse(String code, String city, String state, String country, boolean active) {
+        return Warehouse.builder()
+                .code(code)
+                .name(city + " Warehouse")
+                .city(city)
+                .state(state)
+                .country(country)
+                .isActive(active)
+                .build();
+    }
+}
@@ -0,0 +1,65 @@
+package com.service.inventory.groupcommit;
+
+import com.service.inventory.config.GroupCommitProperties;
+import com.service.inventory.dto.WarehouseDto;
+import com.service.inventory.mapper.WarehouseMapper;
+import com.service.inventory.repository.WarehouseRepository;
+import com.service.inventory.service.WarehouseService;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class WarehouseGroupCommitterTests {
+
+    private final EntityManager entityManager = mock(EntityManager.class);
+    private final WarehouseService perCallService = mock(WarehouseService.class);
+
+    @Test
+    void errorInAGroupFailsItsCallersAndKeepsTheCommitterRunning() throws Exception {
+        when(entityManager.unwrap(Session.class)).thenThrow(new AssertionError("boom"));
+        WarehouseGroupCommitter committer = committer();
+        try {
+            assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+                assertThatThrownBy(() -> committer.create(dto("WH-1"))).isInstanceOf(AssertionError.class);
+                assertThatThrownBy(() -> committer.softDelete(UUID.randomUUID()))
+                        .isInstanceOf(AssertionError.class);
+            });
+        } finally {
+            committer.destroy();
+        }
+    }
+
+    @Test
+    void writesArrivingAfterShutdownCommitOnTheirOwn() throws Exception {
+        WarehouseDto created = dto("WH-2");
+        when(perCallService.createWarehouse(created)).thenReturn(created);
+        WarehouseGroupCommitter committer = committer();
+        committer.destroy();
+
+        assertTimeoutPreemptively(Duration.ofSeconds(10),
+                () -> assertThat(committer.create(created)).isSameAs(created));
+    }
+
+    private WarehouseGroupCommitter committer() {
+        GroupCommitProperties properties = new GroupCommitProperties();
+        properties.setSubmitTimeout(Duration.ofSeconds(2));
+        return new WarehouseGroupCommitter(mock(WarehouseRepository.class), mock(WarehouseMapper.class),
+                mock(ApplicationEventPublisher.class), entityManager, mock(PlatformTransactionManager.class),
+                perCallService, properties);
+    }
+
+    private static WarehouseDto dto(String code) {
+        return WarehouseDto.builder().code(code).name(code + " Warehouse").country("LK").isActive(true).build();
+    }
+}
@@ -0,0 +1,94 @@
+package com.service.inventory.impl;
+
+import com.service.inventory.dto.WarehouseDto;
+import com.service.inventory.repository.WarehouseRepository;
+import com.service.inventory.service.WarehouseService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Run with: mvn test -Dtest=GroupCommitBenchmarkTests -Dbenchmark=true
+// In-memory H2 commits are nearly free, so this understates the gain against a database that syncs on commit.
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@SpringBootTest(properties = {
+        "inventory.group-commit.enabled=true",
+        "logging.level.com.service.inventory=WARN"
+})
+class GroupCommitBenchmarkTests {
+
+    private static final int THREADS = 32;
+    private static final int WRITES_PER_THREAD = 250;
+
+    @Autowired
+    private WarehouseServiceImpl perCallService;
+
+    @Autowired
+    private WarehouseService groupCommitService;
+
+    @Autowired
+    private WarehouseRepository warehouseRepository;
+
+    @AfterEach
+    void tearDown() {
+        warehouseRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void groupCommitVersusPerCallWrites() throws Exception {
+        assertThat(groupCommitService).isInstanceOf(GroupCommitWarehouseService.class);
+
+        run("warm-up", perCallService);
+        run("warm-up", groupCommitService);
+        double perCall = run("per-call", perCallService);
+        double grouped = run("group-commit", groupCommitService);
+
+        System.out.printf("group commit: %.2fx the per-call throughput%n", grouped / perCall);
+    }
+
+    // Each thread creates a warehouse, updates it and soft-deletes it, so all three write paths are exercised.
+    private double run(String label, WarehouseService service) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> workers = new ArrayList<>();
+        for (int thread = 0; thread < THREADS; thread++) {
+            workers.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < WRITES_PER_THREAD / 3; i++) {
+                    String code = UUID.randomUUID().toString().substring(0, 18);
+                    WarehouseDto created = service.createWarehouse(WarehouseDto.builder()
+                            .code(code).name("Benchmark " + code).country("LK").isActive(true).build());
+                    created.setName("Renamed " + code);
+                    service.updateWarehouse(created.getId(), created);
+                    service.softDeleteWarehouse(created.getId());
+                }
+                return null;
+            }));
+        }
+
+        long started = System.nanoTime();
+        start.countDown();
+        for (Future<?> worker : workers) {
+            worker.get();
+        }
+        long elapsed = System.nanoTime() - started;
+        executor.shutdown();
+
+        long writes = (long) THREADS * (WRITES_PER_THREAD / 3) * 3;
+        double throughput = writes / (elapsed / 1e9);
+        System.out.printf("%s: %d threads, %d writes in %d ms (%.0f writes/s)%n",
+                label, THREADS, writes, elapsed / 1_000_000, throughput);
+        return throughput;
+    }
+}
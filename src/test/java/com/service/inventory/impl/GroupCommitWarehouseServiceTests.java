@@ -0,0 +1,175 @@
+package com.service.inventory.impl;
+
+import com.service.inventory.dto.WarehouseDto;
+import com.service.inventory.entity.Warehouse;
+import com.service.inventory.exception.DuplicateResourceException;
+import com.service.inventory.exception.ResourceNotFoundException;
+import com.service.inventory.repository.WarehouseRepository;
+import com.service.inventory.service.StockService;
+import com.service.inventory.service.WarehouseService;
+import com.service.inventory.stock.StockLedger;
+import com.service.inventory.support.StatementBudget;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "inventory.group-commit.enabled=true",
+        "inventory.group-commit.max-wait=200ms",
+        "inventory.stock.flush-interval=1h",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+})
+class GroupCommitWarehouseServiceTests {
+
+    @Autowired
+    private WarehouseService warehouseService;
+
+    @Autowired
+    private WarehouseRepository warehouseRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private StockService stockService;
+
+    @Autowired
+    private StockLedger stockLedger;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        warehouseRepository.deleteAll();
+    }
+
+    @Test
+    void concurrentCreatesShareGroupTransactions() throws Exception {
+        assertThat(warehouseService).isInstanceOf(GroupCommitWarehouseService.class);
+        Statistics statistics = StatementBudget.statistics(entityManagerFactory);
+        statistics.clear();
+
+        List<Object> outcomes = runConcurrently(IntStream.range(0, 16)
+                .<Callable<Object>>mapToObj(i -> () -> warehouseService.createWarehouse(dto(String.format("WH-%02d", i))))
+                .toList());
+
+        assertThat(outcomes).allSatisfy(outcome -> assertThat(outcome).isInstanceOfSatisfying(WarehouseDto.class,
+                created -> assertThat(created.getId()).isNotNull()));
+        assertThat(warehouseRepository.count()).isEqualTo(16);
+        assertThat(statistics.getTransactionCount()).isLessThanOrEqualTo(4);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(8);
+    }
+
+    @Test
+    void eachCallerGetsItsOwnOutcome() throws Exception {
+        warehouseRepository.save(entity("WH-OLD"));
+        Warehouse toDeactivate = warehouseRepository.save(entity("WH-OFF"));
+        Warehouse toRename = warehouseRepository.save(entity("WH-REN"));
+        UUID missing = UUID.randomUUID();
+
+        List<Object> outcomes = runConcurrently(List.of(
+                () -> warehouseService.createWarehouse(dto("WH-NEW")),
+                () -> warehouseService.createWarehouse(dto("WH-NEW")),
+                () -> warehouseService.createWarehouse(dto("WH-OLD")),
+                () -> warehouseService.updateWarehouse(missing, dto("WH-MISS")),
+                () -> warehouseService.updateWarehouse(toRename.getId(),
+                        WarehouseDto.builder().code("WH-REN").name("Renamed").isActive(true).build()),
+                () -> {
+                    warehouseService.softDeleteWarehouse(toDeactivate.getId());
+                    return "soft-deleted";
+                }));
+
+        assertThat(outcomes.subList(0, 2)).filteredOn(WarehouseDto.class::isInstance).hasSize(1);
+        assertThat(outcomes.subList(0, 2)).filteredOn(DuplicateResourceException.class::isInstance).hasSize(1);
+        assertThat(outcomes.get(2)).isInstanceOf(DuplicateResourceException.class);
+        assertThat(outcomes.get(3)).isInstanceOf(ResourceNotFoundException.class);
+        assertThat(outcomes.get(4)).isInstanceOfSatisfying(WarehouseDto.class,
+                updated -> assertThat(updated.getName()).isEqualTo("Renamed"));
+        assertThat(outcomes.get(5)).isEqualTo("soft-deleted");
+        assertThat(warehouseRepository.findById(toDeactivate.getId()))
+                .hasValueSatisfying(warehouse -> assertThat(warehouse.getIsActive()).isFalse());
+    }
+
+    @Test
+    void invalidWriteIsReplayedAloneWithoutFailingItsGroup() throws Exception {
+        List<Object> outcomes = runConcurrently(List.of(
+                () -> warehouseService.createWarehouse(dto("WH-A")),
+                () -> warehouseService.createWarehouse(WarehouseDto.builder()
+                        .code("WH-BAD").name("x".repeat(150)).isActive(true).build()),
+                () -> warehouseService.createWarehouse(dto("WH-B"))));
+
+        assertThat(outcomes.get(0)).isInstanceOf(WarehouseDto.class);
+        assertThat(outcomes.get(1)).isInstanceOf(RuntimeException.class);
+        assertThat(outcomes.get(2)).isInstanceOf(WarehouseDto.class);
+        assertThat(warehouseRepository.findByCode("WH-BAD")).isEmpty();
+        assertThat(warehouseRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void deactivationLeavesStockWritesToTheLedgerFlusher() {
+        UUID id = warehouseService.createWarehouse(dto("WH-STK")).getId();
+        stockService.increment(id, "SKU-1", 5);
+
+        warehouseService.softDeleteWarehouse(id);
+
+        // The after-commit listener runs on the committer thread and only marks the warehouse for eviction.
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM stock_movements WHERE warehouse_id = ?",
+                Long.class, id)).isZero();
+        assertThat(stockLedger.isTracked(id, "SKU-1")).isTrue();
+        stockLedger.flush();
+        assertThat(stockLedger.isTracked(id, "SKU-1")).isFalse();
+    }
+
+    // Starts every call at once so they land in the same group window; exceptions are returned as outcomes.
+    private static List<Object> runConcurrently(List<Callable<Object>> calls) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(calls.size());
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Object>> futures = new ArrayList<>();
+            for (Callable<Object> call : calls) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        return call.call();
+                    } catch (RuntimeException ex) {
+                        return ex;
+                    }
+                }));
+            }
+            start.countDown();
+            List<Object> outcomes = new ArrayList<>();
+            for (Future<Object> future : futures) {
+                outcomes.add(future.get());
+            }
+            return outcomes;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static WarehouseDto dto(String code) {
+        return WarehouseDto.builder().code(code).name(code + " Warehouse").country("LK").isActive(true).build();
+    }
+
+    private static Warehouse entity(String code) {
+        return Warehouse.builder().code(code).name(code + " Warehouse").country("LK").isActive(true).build();
+    }
+}
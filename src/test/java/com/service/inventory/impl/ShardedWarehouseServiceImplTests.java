@@ -0,0 +1,144 @@
+package com.service.inventory.impl;
+
+import com.service.inventory.dto.WarehouseDto;
+import com.service.inventory.exception.DuplicateResourceException;
+import com.service.inventory.service.WarehouseService;
+import com.service.inventory.sharding.WarehouseShard;
+import com.service.inventory.sharding.WarehouseShards;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "inventory.sharding.enabled=true",
+        "inventory.sharding.shards[0].url=jdbc:h2:mem:warehouse-shard-0;DB_CLOSE_DELAY=-1",
+        "inventory.sharding.shards[1].url=jdbc:h2:mem:warehouse-shard-1;DB_CLOSE_DELAY=-1",
+        "inventory.sharding.shards[2].url=jdbc:h2:mem:warehouse-shard-2;DB_CLOSE_DELAY=-1"
+})
+class ShardedWarehouseServiceImplTests {
+
+    private static final String[] CITIES = {"Colombo", "Kandy", "Galle", "Jaffna"};
+
+    @Autowired
+    private WarehouseService warehouseService;
+
+    @Autowired
+    private WarehouseShards warehouseShards;
+
+    private final List<WarehouseDto> created = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        IntStream.range(0, 30).forEach(i -> created.add(warehouseService.createWarehouse(WarehouseDto.builder()
+                .code(String.format("WH-%03d", i))
+                .name("Warehouse " + i)
+                .city(CITIES[i % CITIES.length])
+                .country("LK")
+                .isActive(i % 3 != 0)
+                .build())));
+    }
+
+    @AfterEach
+    void tearDown() {
+        warehouseShards.all().forEach(shard -> shard.write(repository -> {
+            repository.deleteAllInBatch();
+            return null;
+        }));
+    }
+
+    @Test
+    void usesShardedImplementation() {
+        assertThat(warehouseService).isInstanceOf(ShardedWarehouseServiceImpl.class);
+    }
+
+    @Test
+    void storesEachWarehouseOnlyOnTheShardItsIdRoutesTo() {
+        long nonEmptyShards = warehouseShards.all().stream()
+                .filter(shard -> shard.read(repository -> repository.count()) > 0)
+                .count();
+        assertThat(nonEmptyShards).isGreaterThan(1);
+
+        for (WarehouseDto warehouse : created) {
+            WarehouseShard home = warehouseShards.forId(warehouse.getId());
+            for (WarehouseShard shard : warehouseShards.all()) {
+                boolean present = shard.read(repository -> repository.existsById(warehouse.getId()));
+                assertThat(present).isEqualTo(shard == home);
+            }
+            assertThat(warehouseShards.forCode(warehouse.getCode())).contains(home);
+        }
+    }
+
+    @Test
+    void resolvesPointLookups() {
+        WarehouseDto warehouse = created.get(7);
+
+        assertThat(warehouseService.getWarehouseById(warehouse.getId()).getCode()).isEqualTo("WH-007");
+        assertThat(warehouseService.getWarehouseByCode("WH-007").getId()).isEqualTo(warehouse.getId());
+        assertThat(warehouseService.existsByCode("WH-007")).isTrue();
+        assertThat(warehouseService.existsByCode("WH-999")).isFalse();
+    }
+
+    @Test
+    void rejectsDuplicateCodes() {
+        WarehouseDto duplicate = WarehouseDto.builder().code("WH-003").name("Duplicate").isActive(true).build();
+
+        assertThatThrownBy(() -> warehouseService.createWarehouse(duplicate))
+                .isInstanceOf(DuplicateResourceException.class);
+    }
+
+    @Test
+    void mergesSortedPagesAcrossShards() {
+        List<String> expected = created.stream()
+                .map(WarehouseDto::getCode)
+                .sorted(Comparator.reverseOrder())
+                .skip(10)
+                .limit(10)
+                .toList();
+
+        Page<WarehouseDto> page = warehouseService.getAllWarehouses(PageRequest.of(1, 10, Sort.by("code").descending()));
+
+        assertThat(page.getTotalElements()).isEqualTo(30);
+        assertThat(page.getContent()).extracting(WarehouseDto::getCode).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void scattersFilterQueries() {
+        assertThat(warehouseService.getActiveWarehouses()).hasSize(20);
+        assertThat(warehouseService.getWarehousesByCity("Kandy")).hasSize(8);
+        assertThat(warehouseService.getWarehousesByCountry("LK")).hasSize(30);
+
+        Page<WarehouseDto> search = warehouseService.searchWarehouses(
+                null, null, "galle", null, null, true, PageRequest.of(0, 5, Sort.by("code")));
+        assertThat(search.getTotalElements()).isEqualTo(5);
+        assertThat(search.getContent()).extracting(WarehouseDto::getCode)
+                .containsExactly("WH-002", "WH-010", "WH-014", "WH-022", "WH-026");
+    }
+
+    @Test
+    void updatesAndDeletesOnTheOwningShard() {
+        WarehouseDto warehouse = created.get(4);
+
+        warehouseService.updateWarehouse(warehouse.getId(),
+                WarehouseDto.builder().code(warehouse.getCode()).name("Renamed").isActive(true).build());
+        assertThat(warehouseService.getWarehouseById(warehouse.getId()).getName()).isEqualTo("Renamed");
+
+        warehouseService.softDeleteWarehouse(warehouse.getId());
+        assertThat(warehouseService.getWarehouseById(warehouse.getId()).getIsActive()).isFalse();
+
+        warehouseService.deleteWarehouse(warehouse.getId());
+        assertThat(warehouseService.existsByCode(warehouse.getCode())).isFalse();
+    }
+}
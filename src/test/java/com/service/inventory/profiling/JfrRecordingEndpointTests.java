@@ -0,0 +1,149 @@
+package com.service.inventory.profiling;
+
+import com.jayway.jsonpath.JsonPath;
+import com.service.inventory.config.SecurityConfig;
+import com.service.inventory.entity.Warehouse;
+import com.service.inventory.repository.WarehouseRepository;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithAnonymousUser;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "inventory.jfr.enabled=true",
+        "management.endpoints.web.exposure.include=jfr",
+        "inventory.jfr.max-stopped-recordings=1",
+        "inventory.jfr.event-threshold=0ms"
+})
+@AutoConfigureMockMvc
+@WithMockUser(roles = SecurityConfig.JFR_ROLE)
+class JfrRecordingEndpointTests {
+
+    private static final String ENDPOINT = "/actuator/jfr";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private WarehouseRepository warehouseRepository;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        warehouseRepository.save(Warehouse.builder().code("WH-CMB").name("Colombo").country("LK").isActive(true).build());
+        warehouseRepository.save(Warehouse.builder().code("WH-KDY").name("Kandy").country("LK").isActive(true).build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        warehouseRepository.deleteAll();
+    }
+
+    @Test
+    void recordsHotPathEventsForRequests() throws Exception {
+        String started = mockMvc.perform(post(ENDPOINT).contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"settings": "default", "maxAge": "5m"}
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("RUNNING"))
+                .andReturn().getResponse().getContentAsString();
+        long id = ((Number) JsonPath.read(started, "$.id")).longValue();
+
+        mockMvc.perform(get("/api/v1/warehouses/by-country/{country}", "LK")).andExpect(status().isOk());
+
+        mockMvc.perform(post(ENDPOINT + "/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("STOPPED"));
+
+        byte[] dump = mockMvc.perform(get(ENDPOINT + "/{id}", id))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+        Path file = Files.write(tempDir.resolve("recording.jfr"), dump);
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.hasField("endpoint"))
+                .filter(event -> "GET /api/v1/warehouses/by-country/{country}".equals(event.getString("endpoint")))
+                .toList();
+
+        assertThat(events).extracting(event -> event.getEventType().getName())
+                .contains("com.service.inventory.ServiceCall", "com.service.inventory.RepositoryQuery",
+                        "com.service.inventory.Mapping", "com.service.inventory.Serialization");
+        assertThat(events)
+                .filteredOn(event -> "WarehouseRepository.findByCountry".equals(event.getString("operation")))
+                .singleElement()
+                .satisfies(event -> {
+                    assertThat(event.getLong("rowCount")).isEqualTo(2);
+                    assertThat(event.getDuration()).isPositive();
+                });
+
+        mockMvc.perform(delete(ENDPOINT + "/{id}", id)).andExpect(status().isNoContent());
+        mockMvc.perform(get(ENDPOINT)).andExpect(jsonPath("$.length()").value(0));
+    }
+
+    @Test
+    void rejectsUnknownSettings() throws Exception {
+        mockMvc.perform(post(ENDPOINT).contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"settings": "nope"}
+                                """))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post(ENDPOINT + "/{id}", Long.MAX_VALUE)).andExpect(status().isNotFound());
+    }
+
+    @Test
+    void keepsOnlyTheNewestStoppedRecordings() throws Exception {
+        long first = startAndStop();
+        long second = startAndStop();
+
+        mockMvc.perform(get(ENDPOINT))
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(second));
+        mockMvc.perform(get(ENDPOINT + "/{id}", first)).andExpect(status().isNotFound());
+        mockMvc.perform(delete(ENDPOINT + "/{id}", second)).andExpect(status().isNoContent());
+    }
+
+    @Test
+    @WithAnonymousUser
+    void requiresAnOperator() throws Exception {
+        mockMvc.perform(get(ENDPOINT)).andExpect(status().isUnauthorized());
+        mockMvc.perform(post(ENDPOINT).contentType(MediaType.APPLICATION_JSON).content("{}"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @WithMockUser
+    void rejectsUsersWithoutTheOperatorRole() throws Exception {
+        mockMvc.perform(get(ENDPOINT)).andExpect(status().isForbidden());
+    }
+
+    private long startAndStop() throws Exception {
+        String started = mockMvc.perform(post(ENDPOINT).contentType(MediaType.APPLICATION_JSON).content("{}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        long id = ((Number) JsonPath.read(started, "$.id")).longValue();
+        mockMvc.perform(post(ENDPOINT + "/{id}", id)).andExpect(status().isOk());
+        return id;
+    }
+}
@@ -0,0 +1,132 @@
+package com.service.inventory.repository;
+
+import com.service.inventory.entity.Warehouse;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Named;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs every hot {@link WarehouseRepository} query against a seeded H2 database, EXPLAINs the
+ * SQL Hibernate actually issued and fails if any of it falls back to a full table scan.
+ * <p>
+ * {@code findWithFilters} is deliberately not listed: its case-insensitive substring matching
+ * cannot be served by a B-tree index on any database.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.service.inventory.repository.WarehouseQueryPlanTests$CapturingStatementInspector")
+class WarehouseQueryPlanTests {
+
+    private static final String[] COUNTRIES = {"US", "DE", "IN", "LK"};
+    private static final String[] STATES = {"North", "South", "East", "West", "Central"};
+    private static final String[] CITIES = {"Alpha", "Bravo", "Charlie", "Delta", "Echo", "Foxtrot"};
+    private static final int SEED_SIZE = 600;
+
+    @Autowired
+    private WarehouseRepository warehouseRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    static Stream<Arguments> hotQueries() {
+        PageRequest byId = PageRequest.of(1, 20, Sort.by("id"));
+        return Stream.of(
+                query("findById", repository -> repository.findById(UUID.randomUUID())),
+                query("existsById", repository -> repository.existsById(UUID.randomUUID())),
+                query("findAllById", repository -> repository.findAllById(List.of(UUID.randomUUID(), UUID.randomUUID()))),
+                query("findByCode", repository -> repository.findByCode("WH-00042")),
+                query("existsByCode", repository -> repository.existsByCode("WH-00042")),
+                query("findExistingCodes", repository -> repository.findExistingCodes(List.of("WH-00042", "WH-00043"))),
+                query("existsByCodeAndIdNot", repository -> repository.existsByCodeAndIdNot("WH-00042", UUID.randomUUID())),
+                query("findByIsActiveTrue", WarehouseRepository::findByIsActiveTrue),
+                query("findByIsActiveTrue(pageable)", repository -> repository.findByIsActiveTrue(byId)),
+                query("findByCity", repository -> repository.findByCity("Charlie")),
+                query("findByState", repository -> repository.findByState("South")),
+                query("findByCountry", repository -> repository.findByCountry("DE")),
+                query("findByUpdatedAtAfter", repository -> repository.findByUpdatedAtAfter(
+                        LocalDateTime.now().minusSeconds(5)))
+        );
+    }
+
+    private static Arguments query(String name, Consumer<WarehouseRepository> invocation) {
+        return Arguments.of(Named.of(name, invocation));
+    }
+
+    @BeforeEach
+    void seed() {
+        List<Warehouse> warehouses = IntStream.range(0, SEED_SIZE)
+                .mapToObj(i -> Warehouse.builder()
+                        .code(String.format("WH-%05d", i))
+                        .name("Warehouse " + i)
+                        .country(COUNTRIES[i % COUNTRIES.length])
+                        .state(STATES[i % STATES.length])
+                        .city(CITIES[i % CITIES.length])
+                        .isActive(i % 10 != 0)
+                        .build())
+                .toList();
+        warehouseRepository.saveAll(warehouses);
+        entityManager.flush();
+        entityManager.clear();
+        CapturingStatementInspector.reset();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("hotQueries")
+    void hotQueryDoesNotScanTable(Consumer<WarehouseRepository> invocation) {
+        invocation.accept(warehouseRepository);
+
+        List<String> statements = CapturingStatementInspector.captured();
+        assertThat(statements).isNotEmpty();
+        for (String sql : statements) {
+            String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+            assertThat(plan)
+                    .as("Plan for: %s", sql)
+                    .doesNotContainIgnoringCase("tableScan");
+        }
+    }
+
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        private static final List<String> STATEMENTS = Collections.synchronizedList(new ArrayList<>());
+
+        static void reset() {
+            STATEMENTS.clear();
+        }
+
+        static List<String> captured() {
+            synchronized (STATEMENTS) {
+                return List.copyOf(STATEMENTS);
+            }
+        }
+
+        @Override
+        public String inspect(String sql) {
+            if (sql.regionMatches(true, 0, "select", 0, 6)) {
+                STATEMENTS.add(sql);
+            }
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.service.inventory.snapshot;
+
+import com.service.inventory.dto.WarehouseDto;
+import com.service.inventory.entity.Warehouse;
+import com.service.inventory.impl.SnapshotWarehouseService;
+import com.service.inventory.impl.WarehouseServiceImpl;
+import com.service.inventory.repository.WarehouseRepository;
+import com.service.inventory.service.WarehouseService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "inventory.snapshot.enabled=true",
+        "inventory.snapshot.max-staleness=1h",
+        "inventory.snapshot.full-refresh-interval=1h",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+})
+@AutoConfigureMockMvc
+class WarehouseSnapshotStoreTests {
+
+    private static final String[] CITIES = {"Colombo", "Kandy", "Galle", null};
+    private static final String[] STATES = {"Western", "Central", "Southern"};
+    private static final String[] COUNTRIES = {"LK", "IN"};
+
+    @Autowired
+    private WarehouseService warehouseService;
+
+    @Autowired
+    private WarehouseServiceImpl databaseService;
+
+    @Autowired
+    private WarehouseSnapshotStore warehouseSnapshotStore;
+
+    @Autowired
+    private WarehouseRepository warehouseRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private final List<WarehouseDto> created = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        IntStream.range(0, 40).forEach(i -> created.add(databaseService.createWarehouse(WarehouseDto.builder()
+                .code(String.format("WH-%03d", i))
+                .name((i % 5 == 0 ? "Central Hub " : "Depot ") + i)
+                .city(CITIES[i % CITIES.length])
+                .state(STATES[i % STATES.length])
+                .country(COUNTRIES[i % COUNTRIES.length])
+                .isActive(i % 4 != 0)
+                .build())));
+        warehouseSnapshotStore.reload();
+    }
+
+    @AfterEach
+    void tearDown() {
+        warehouseRepository.deleteAll();
+        warehouseSnapshotStore.reload();
+    }
+
+    @Test
+    void servesFilterQueriesFromSnapshot() {
+        assertThat(warehouseService).isInstanceOf(SnapshotWarehouseService.class);
+
+        assertThat(warehouseService.getActiveWarehouses())
+                .containsExactlyInAnyOrderElementsOf(databaseService.getActiveWarehouses());
+        assertThat(warehouseService.getWarehousesByCity("Kandy"))
+                .containsExactlyInAnyOrderElementsOf(databaseService.getWarehousesByCity("Kandy"));
+        assertThat(warehouseService.getWarehousesByState("Southern"))
+                .containsExactlyInAnyOrderElementsOf(databaseService.getWarehousesByState("Southern"));
+        assertThat(warehouseService.getWarehousesByCountry("IN"))
+                .containsExactlyInAnyOrderElementsOf(databaseService.getWarehousesByCountry("IN"));
+        assertThat(warehouseService.getWarehousesByCity("Nowhere")).isEmpty();
+    }
+
+    @Test
+    void searchMatchesDatabaseResults() {
+        Pageable pageable = PageRequest.of(1, 4, Sort.by("code").descending());
+
+        assertSameSearch(null, null, null, null, null, null, pageable);
+        assertSameSearch(null, null, "OMB", null, "lk", true, pageable);
+        assertSameSearch(null, "central", null, null, null, null, pageable);
+        assertSameSearch("wh-01", null, null, "ern", null, false, PageRequest.of(0, 10, Sort.by("name")));
+    }
+
+    @Test
+    void likeWildcardsMatchLikeTheDatabase() {
+        Pageable pageable = PageRequest.of(0, 40, Sort.by("code"));
+
+        assertSameSearch("wh-0_1", null, null, null, null, null, pageable);
+        assertSameSearch(null, "cen%hub", null, null, null, null, pageable);
+        assertSameSearch(null, null, "k_ndy", "%ern", null, null, pageable);
+        assertSameSearch("wh\\_0", null, null, null, null, null, pageable);
+        assertThat(warehouseService.searchWarehouses("wh-0_1", null, null, null, null, null, pageable))
+                .extracting(WarehouseDto::getCode)
+                .containsExactly("WH-001", "WH-011", "WH-021", "WH-031");
+    }
+
+    @Test
+    void sortsLikeTheDatabase() {
+        assertSameSearch(null, null, null, null, null, null, PageRequest.of(0, 40, Sort.by("city", "code")));
+        assertSameSearch(null, null, null, null, null, null,
+                PageRequest.of(1, 7, Sort.by(Sort.Order.desc("city"), Sort.Order.asc("code"))));
+        assertSameSearch(null, null, null, null, null, null, PageRequest.of(0, 40, Sort.by("id")));
+        assertSameSearch(null, "DEPOT", null, null, null, null,
+                PageRequest.of(0, 40, Sort.by(Sort.Order.asc("name").ignoreCase())));
+    }
+
+    @Test
+    void rejectsUnknownSortPropertiesWithBadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/warehouses/search").param("sort", "bogus"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/warehouses/active/pageable").param("sort", "bogus"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/warehouses").param("sort", "bogus"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void doesNotTouchJdbcWhenServingFromSnapshot() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        warehouseService.getActiveWarehouses();
+        warehouseService.getActiveWarehouses(PageRequest.of(0, 5));
+        warehouseService.getWarehousesByCountry("LK");
+        warehouseService.searchWarehouses(null, "depot", null, null, null, true, PageRequest.of(0, 5));
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getConnectCount()).isZero();
+    }
+
+    @Test
+    void appliesCommittedWritesIncrementally() {
+        WarehouseDto colombo = created.get(0);
+        warehouseService.updateWarehouse(colombo.getId(),
+                WarehouseDto.builder().code(colombo.getCode()).name("Moved").city("Jaffna").isActive(true).build());
+        warehouseService.deleteWarehouse(created.get(1).getId());
+
+        assertThat(warehouseService.getWarehousesByCity("Jaffna")).isEmpty();
+
+        warehouseSnapshotStore.applyPendingChanges();
+
+        assertThat(warehouseService.getWarehousesByCity("Jaffna"))
+                .extracting(WarehouseDto::getName)
+                .containsExactly("Moved");
+        assertThat(warehouseService.getWarehousesByCity("Colombo"))
+                .extracting(WarehouseDto::getId)
+                .doesNotContain(colombo.getId());
+        assertThat(warehouseService.getWarehousesByCity("Kandy"))
+                .extracting(WarehouseDto::getId)
+                .doesNotContain(created.get(1).getId());
+    }
+
+    @Test
+    void pollsWritesMadeByOtherInstances() {
+        // Saved through the repository, so no event is published, as for a write committed by another instance.
+        Warehouse remote = warehouseRepository.findById(created.get(2).getId()).orElseThrow();
+        remote.setCity("Jaffna");
+        warehouseRepository.save(remote);
+
+        assertThat(warehouseService.getWarehousesByCity("Jaffna")).isEmpty();
+
+        warehouseSnapshotStore.applyPendingChanges();
+
+        assertThat(warehouseService.getWarehousesByCity("Jaffna"))
+                .extracting(WarehouseDto::getId)
+                .containsExactly(remote.getId());
+    }
+
+    private void assertSameSearch(String code, String name, String city, String state, String country,
+                                  Boolean isActive, Pageable pageable) {
+        Page<WarehouseDto> expected = databaseService.searchWarehouses(code, name, city, state, country, isActive, pageable);
+        Page<WarehouseDto> actual = warehouseService.searchWarehouses(code, name, city, state, country, isActive, pageable);
+
+        assertThat(actual.getTotalElements()).isEqualTo(expected.getTotalElements());
+        assertThat(actual.getContent()).extracting(WarehouseDto::getCode)
+                .containsExactlyElementsOf(expected.getContent().stream().map(WarehouseDto::getCode).toList());
+    }
+}
@@ -0,0 +1,73 @@
+package com.service.inventory.stock;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Run with: mvn test -Dtest=StockLedgerBenchmarkTests -Dbenchmark=true
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@SpringBootTest(properties = "inventory.stock.flush-interval=50ms")
+class StockLedgerBenchmarkTests {
+
+    private static final int THREADS = 16;
+    // Every call waits for the group fsync of the journal.
+    private static final int OPERATIONS_PER_THREAD = 5_000;
+    private static final int HOT_SKUS = 4;
+
+    @Autowired
+    private StockLedger stockLedger;
+
+    @Test
+    void hotSkuContention() throws Exception {
+        UUID warehouseId = UUID.randomUUID();
+        for (int sku = 0; sku < HOT_SKUS; sku++) {
+            stockLedger.increment(warehouseId, "HOT-" + sku, (long) THREADS * OPERATIONS_PER_THREAD);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> workers = new ArrayList<>();
+        for (int thread = 0; thread < THREADS; thread++) {
+            int offset = thread;
+            workers.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                    String sku = "HOT-" + ((i + offset) % HOT_SKUS);
+                    stockLedger.reserve(warehouseId, sku, 2);
+                    stockLedger.release(warehouseId, sku, 1);
+                }
+                return null;
+            }));
+        }
+
+        long started = System.nanoTime();
+        start.countDown();
+        for (Future<?> worker : workers) {
+            worker.get();
+        }
+        long elapsed = System.nanoTime() - started;
+        executor.shutdown();
+        stockLedger.flush();
+
+        long operations = 2L * THREADS * OPERATIONS_PER_THREAD;
+        System.out.printf("stock ledger: %d threads, %d hot SKUs, %d ops in %d ms (%.0f ops/s)%n",
+                THREADS, HOT_SKUS, operations, elapsed / 1_000_000, operations / (elapsed / 1e9));
+
+        long reserved = 0;
+        for (int sku = 0; sku < HOT_SKUS; sku++) {
+            reserved += stockLedger.get(warehouseId, "HOT-" + sku).reserved();
+        }
+        assertThat(reserved).isEqualTo((long) THREADS * OPERATIONS_PER_THREAD);
+    }
+}
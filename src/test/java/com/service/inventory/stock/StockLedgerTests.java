@@ -0,0 +1,290 @@
+package com.service.inventory.stock;
+
+import com.service.inventory.config.StockProperties;
+import com.service.inventory.dto.WarehouseDto;
+import com.service.inventory.entity.StockLevel;
+import com.service.inventory.exception.InactiveWarehouseException;
+import com.service.inventory.exception.InsufficientStockException;
+import com.service.inventory.exception.ResourceNotFoundException;
+import com.service.inventory.repository.StockLevelRepository;
+import com.service.inventory.repository.WarehouseRepository;
+import com.service.inventory.service.StockService;
+import com.service.inventory.service.WarehouseService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest(properties = {
+        "inventory.stock.flush-interval=1h",
+        "inventory.stock.max-flush-attempts=2"
+})
+class StockLedgerTests {
+
+    @TempDir
+    static Path journalDirectory;
+
+    @TempDir
+    Path recoveryDirectory;
+
+    @DynamicPropertySource
+    static void stockProperties(DynamicPropertyRegistry registry) {
+        registry.add("inventory.stock.journal-directory", journalDirectory::toString);
+    }
+
+    @Autowired
+    private StockLedger stockLedger;
+
+    @Autowired
+    private StockService stockService;
+
+    @Autowired
+    private WarehouseService warehouseService;
+
+    @Autowired
+    private WarehouseRepository warehouseRepository;
+
+    @Autowired
+    private StockLevelRepository stockLevelRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final UUID warehouseId = UUID.randomUUID();
+
+    @AfterEach
+    void tearDown() {
+        stockLedger.flush();
+    }
+
+    @Test
+    void appliesMovementsInMemory() {
+        stockLedger.increment(warehouseId, "SKU-1", 10);
+        stockLedger.reserve(warehouseId, "SKU-1", 4);
+        stockLedger.decrement(warehouseId, "SKU-1", 5);
+        StockLevels levels = stockLedger.release(warehouseId, "SKU-1", 3);
+
+        assertThat(levels).isEqualTo(new StockLevels(5, 1));
+        assertThat(levels.available()).isEqualTo(4);
+        assertThat(stockLedger.get(warehouseId, "SKU-1")).isEqualTo(levels);
+    }
+
+    @Test
+    void rejectsMovementsBeyondAvailableStock() {
+        stockLedger.increment(warehouseId, "SKU-1", 5);
+        stockLedger.reserve(warehouseId, "SKU-1", 3);
+
+        assertThatThrownBy(() -> stockLedger.decrement(warehouseId, "SKU-1", 3))
+                .isInstanceOf(InsufficientStockException.class);
+        assertThatThrownBy(() -> stockLedger.reserve(warehouseId, "SKU-1", 3))
+                .isInstanceOf(InsufficientStockException.class);
+        assertThatThrownBy(() -> stockLedger.release(warehouseId, "SKU-1", 4))
+                .isInstanceOf(InsufficientStockException.class);
+        assertThat(stockLedger.get(warehouseId, "SKU-1")).isEqualTo(new StockLevels(5, 3));
+    }
+
+    @Test
+    void rejectsIncrementThatWouldOverflow() {
+        stockLedger.increment(warehouseId, "SKU-1", Long.MAX_VALUE - 1);
+
+        assertThatThrownBy(() -> stockLedger.increment(warehouseId, "SKU-1", 2))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("overflow");
+        assertThat(stockLedger.get(warehouseId, "SKU-1")).isEqualTo(new StockLevels(Long.MAX_VALUE - 1, 0));
+    }
+
+    @Test
+    void flushWritesLevelsAndMovementsInBatches() {
+        stockLedger.increment(warehouseId, "SKU-1", 10);
+        stockLedger.increment(warehouseId, "SKU-2", 7);
+        stockLedger.flush();
+        stockLedger.reserve(warehouseId, "SKU-1", 2);
+        stockLedger.decrement(warehouseId, "SKU-2", 7);
+        stockLedger.flush();
+
+        assertThat(stockLevelRepository.findById(new StockLevel.Key(warehouseId, "SKU-1")))
+                .hasValueSatisfying(level -> {
+                    assertThat(level.getQuantity()).isEqualTo(10);
+                    assertThat(level.getReserved()).isEqualTo(2);
+                });
+        assertThat(stockLevelRepository.findById(new StockLevel.Key(warehouseId, "SKU-2")))
+                .hasValueSatisfying(level -> assertThat(level.getQuantity()).isZero());
+        assertThat(movementCount(warehouseId)).isEqualTo(4);
+        assertThat(new StockJournal(journalDirectory).segments()).isEmpty();
+    }
+
+    @Test
+    void acknowledgedMovementsAreAlreadyJournaled() {
+        stockLedger.increment(warehouseId, "SKU-1", 10);
+        stockLedger.reserve(warehouseId, "SKU-1", 4);
+
+        assertThat(new StockJournal(journalDirectory).readAll())
+                .filteredOn(movement -> movement.key().warehouseId().equals(warehouseId))
+                .extracting(PendingMovement::quantityDelta, PendingMovement::reservedDelta)
+                .containsExactly(tuple(10L, 0L), tuple(0L, 4L));
+    }
+
+    @Test
+    void replaysUnflushedJournalEntriesOnStartup() {
+        stockLedger.increment(warehouseId, "SKU-1", 10);
+        stockLedger.flush();
+        long flushedSequence = jdbcTemplate.queryForObject("SELECT MAX(sequence) FROM stock_movements", Long.class);
+
+        // Simulate a crash after the first movement was flushed but before its segment was deleted. The replayed
+        // sequences are far ahead so they cannot collide with later movements of the shared ledger bean.
+        long replayed = flushedSequence + 1_000_000;
+        StockJournal journal = new StockJournal(recoveryDirectory);
+        StockKey key = new StockKey(warehouseId, "SKU-1");
+        journal.append(new PendingMovement(flushedSequence, key, 10, 0, LocalDateTime.now()));
+        journal.append(new PendingMovement(replayed, key, 5, 0, LocalDateTime.now()));
+        journal.append(new PendingMovement(replayed + 1, key, 0, 3, LocalDateTime.now()));
+        journal.close();
+
+        StockProperties properties = new StockProperties();
+        properties.setFlushInterval(Duration.ofHours(1));
+        properties.setJournalDirectory(recoveryDirectory);
+        StockLedger recovered = new StockLedger(properties, stockLevelRepository, jdbcTemplate, transactionManager);
+        try {
+            assertThat(recovered.get(warehouseId, "SKU-1")).isEqualTo(new StockLevels(15, 3));
+            assertThat(movementCount(warehouseId)).isEqualTo(3);
+            assertThat(recoveryDirectory).isEmptyDirectory();
+        } finally {
+            recovered.destroy();
+        }
+    }
+
+    @Test
+    void deadLettersMovementsTheDatabaseKeepsRejecting() {
+        long deadLettered = stockLedger.deadLetteredMovements();
+        String tooLong = "X".repeat(65);
+        stockLedger.increment(warehouseId, "SKU-1", 4);
+        stockLedger.increment(warehouseId, tooLong, 1);
+
+        assertThatThrownBy(stockLedger::flush).isInstanceOf(RuntimeException.class);
+        assertThat(movementCount(warehouseId)).isZero();
+
+        stockLedger.flush();
+        assertThat(stockLedger.deadLetteredMovements()).isEqualTo(deadLettered + 1);
+        assertThat(stockLevelRepository.findById(new StockLevel.Key(warehouseId, "SKU-1")))
+                .hasValueSatisfying(level -> assertThat(level.getQuantity()).isEqualTo(4));
+        assertThat(stockLedger.get(warehouseId, tooLong)).isEqualTo(StockLevels.EMPTY);
+        assertThat(journalDirectory.resolve("stock-dead-letters.log")).content().contains(tooLong);
+        assertThat(new StockJournal(journalDirectory).segments()).isEmpty();
+    }
+
+    @Test
+    void keepsMovementsPendingWhileTheDatabaseCannotTakeThem() throws Exception {
+        long deadLettered = stockLedger.deadLetteredMovements();
+        stockLedger.increment(warehouseId, "SKU-1", 4);
+        stockLedger.flush();
+        stockLedger.increment(warehouseId, "SKU-1", 3);
+
+        // Another transaction holds the stock level's row lock, so every attempt times out as it would in an outage.
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> holder = executor.submit(() -> new TransactionTemplate(transactionManager)
+                    .executeWithoutResult(status -> {
+                        jdbcTemplate.update("UPDATE stock_levels SET reserved = reserved WHERE warehouse_id = ?",
+                                warehouseId);
+                        locked.countDown();
+                        awaitQuietly(release);
+                    }));
+            locked.await();
+            assertThatThrownBy(stockLedger::flush).isInstanceOf(DataAccessException.class);
+            assertThatThrownBy(stockLedger::flush).isInstanceOf(DataAccessException.class);
+            // The failing batch keeps the segment sealed for it instead of sealing one per attempt.
+            assertThat(new StockJournal(journalDirectory).segments()).hasSize(1);
+            release.countDown();
+            holder.get();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(stockLedger.deadLetteredMovements()).isEqualTo(deadLettered);
+        assertThat(stockLedger.get(warehouseId, "SKU-1")).isEqualTo(new StockLevels(7, 0));
+        stockLedger.flush();
+        assertThat(stockLevelRepository.findById(new StockLevel.Key(warehouseId, "SKU-1")))
+                .hasValueSatisfying(level -> assertThat(level.getQuantity()).isEqualTo(7));
+        assertThat(new StockJournal(journalDirectory).segments()).isEmpty();
+    }
+
+    @Test
+    void serviceRejectsUnknownWarehouseAndInvalidSku() {
+        assertThatThrownBy(() -> stockService.increment(warehouseId, "SKU-1", 1))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> stockService.getStock(warehouseId, "bad sku"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(stockLedger.isTracked(warehouseId, "SKU-1")).isFalse();
+    }
+
+    @Test
+    void serviceRejectsDeactivatedAndDeletedWarehouses() {
+        UUID deactivated = warehouseService.createWarehouse(warehouse("WH-STK-OFF")).getId();
+        UUID deleted = warehouseService.createWarehouse(warehouse("WH-STK-DEL")).getId();
+        try {
+            stockService.increment(deactivated, "SKU-1", 5);
+            stockService.increment(deleted, "SKU-1", 5);
+
+            warehouseService.softDeleteWarehouse(deactivated);
+            warehouseService.deleteWarehouse(deleted);
+
+            // The counters stay until the next flush has written their movements.
+            assertThat(stockLedger.isTracked(deactivated, "SKU-1")).isTrue();
+            assertThat(movementCount(deactivated)).isZero();
+            stockLedger.flush();
+
+            assertThat(stockLedger.isTracked(deactivated, "SKU-1")).isFalse();
+            assertThat(stockLedger.isTracked(deleted, "SKU-1")).isFalse();
+            assertThatThrownBy(() -> stockService.reserve(deactivated, "SKU-1", 1))
+                    .isInstanceOf(InactiveWarehouseException.class);
+            assertThatThrownBy(() -> stockService.reserve(deleted, "SKU-1", 1))
+                    .isInstanceOf(ResourceNotFoundException.class);
+            assertThat(stockLevelRepository.findById(new StockLevel.Key(deactivated, "SKU-1")))
+                    .hasValueSatisfying(level -> assertThat(level.getQuantity()).isEqualTo(5));
+        } finally {
+            warehouseRepository.deleteAll();
+        }
+    }
+
+    private static WarehouseDto warehouse(String code) {
+        return WarehouseDto.builder().code(code).name(code + " Warehouse").country("LK").isActive(true).build();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private long movementCount(UUID warehouseId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM stock_movements WHERE warehouse_id = ?",
+                Long.class, warehouseId);
+    }
+}
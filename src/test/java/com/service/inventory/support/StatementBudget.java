@@ -0,0 +1,38 @@
+package com.service.inventory.support;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Upper bounds on the database work a single request may do, checked against Hibernate statistics.
+ * Requires {@code spring.jpa.properties.hibernate.generate_statistics=true}.
+ */
+public record StatementBudget(long statements, long flushes, long entityLoads) {
+
+    public static StatementBudget of(long statements, long flushes, long entityLoads) {
+        return new StatementBudget(statements, flushes, entityLoads);
+    }
+
+    public static Statistics statistics(EntityManagerFactory entityManagerFactory) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        assertThat(statistics.isStatisticsEnabled())
+                .as("hibernate.generate_statistics must be enabled")
+                .isTrue();
+        return statistics;
+    }
+
+    public void assertWithin(Statistics statistics, String operation) {
+        assertThat(statistics.getPrepareStatementCount())
+                .as("JDBC statements for %s", operation)
+                .isLessThanOrEqualTo(statements);
+        assertThat(statistics.getFlushCount())
+                .as("Flushes for %s", operation)
+                .isLessThanOrEqualTo(flushes);
+        assertThat(statistics.getEntityLoadCount())
+                .as("Entity loads for %s", operation)
+                .isLessThanOrEqualTo(entityLoads);
+    }
+}
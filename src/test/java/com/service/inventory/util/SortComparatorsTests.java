@@ -0,0 +1,76 @@
+package com.service.inventory.util;
+
+import com.service.inventory.entity.Warehouse;
+import com.service.inventory.repository.WarehouseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PropertyReferenceException;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Sorts the same rows in H2 and in memory and expects the same order, including NULLs, case, non-ASCII text and
+ * UUIDs with the sign bit set.
+ */
+@DataJpaTest
+class SortComparatorsTests {
+
+    @Autowired
+    private WarehouseRepository warehouseRepository;
+
+    static Stream<Sort> sorts() {
+        return Stream.of(
+                Sort.by("id"),
+                Sort.by(Sort.Direction.DESC, "id"),
+                Sort.by("city", "code"),
+                Sort.by(Sort.Order.desc("city"), Sort.Order.asc("code")),
+                Sort.by(Sort.Order.asc("name").ignoreCase(), Sort.Order.asc("code")),
+                Sort.by("name", "code"),
+                Sort.by(Sort.Order.asc("isActive"), Sort.Order.desc("code")));
+    }
+
+    @BeforeEach
+    void setUp() {
+        warehouseRepository.saveAll(List.of(
+                warehouse(new UUID(0x8000_0000_0000_0000L, 1), "WH-1", "alpha", "Colombo", true),
+                warehouse(new UUID(0x7FFF_FFFF_FFFF_FFFFL, 2), "WH-2", "Bravo", null, false),
+                warehouse(new UUID(0xFFFF_FFFF_FFFF_FFFFL, 3), "WH-3", "Émile", "colombo", true),
+                warehouse(new UUID(0x0000_0000_0000_0001L, 4), "WH-4", "echo", "Zürich", false),
+                warehouse(new UUID(0x0000_0000_0000_0001L, 0x8000_0000_0000_0000L), "WH-5", "Alpha", null, true)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("sorts")
+    void matchesDatabaseOrder(Sort sort) {
+        List<String> database = warehouseRepository.findAll(sort).stream().map(Warehouse::getCode).toList();
+        List<String> inMemory = warehouseRepository.findAll().stream()
+                .sorted(SortComparators.forSort(Warehouse.class, sort))
+                .map(Warehouse::getCode)
+                .toList();
+
+        assertThat(inMemory).isEqualTo(database);
+    }
+
+    @Test
+    void rejectsUnknownPropertiesLikeTheRepository() {
+        Sort unknown = Sort.by("bogus");
+
+        assertThatThrownBy(() -> warehouseRepository.findAll(unknown)).isInstanceOf(PropertyReferenceException.class);
+        assertThatThrownBy(() -> SortComparators.forSort(Warehouse.class, unknown))
+                .isInstanceOf(PropertyReferenceException.class);
+    }
+
+    private static Warehouse warehouse(UUID id, String code, String name, String city, boolean active) {
+        return Warehouse.builder().id(id).code(code).name(name).city(city).country("LK").isActive(active).build();
+    }
+}